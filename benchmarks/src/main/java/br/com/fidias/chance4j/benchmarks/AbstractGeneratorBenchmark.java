@@ -0,0 +1,239 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.benchmarks;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.person.CnpjOptions;
+import br.com.fidias.chance4j.person.CpfOptions;
+import br.com.fidias.chance4j.person.Gender;
+import br.com.fidias.chance4j.person.SsnOptions;
+import br.com.fidias.chance4j.person.name.Nationality;
+import br.com.fidias.chance4j.person.name.NameOptions;
+import br.com.fidias.chance4j.text.TextOptions;
+import br.com.fidias.chance4j.time.DateFormatSpec;
+import br.com.fidias.chance4j.time.Month;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.joda.time.DateTime;
+
+/**
+ * One benchmark per public generator of {@link Chance}. Subclasses decide how
+ * the instance is created and how many threads share it.
+ *
+ * @author atila
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractGeneratorBenchmark {
+
+    protected static final Date MIN_DATE = new DateTime(1980, 5, 10, 12, 0).toDate();
+    protected static final Date MAX_DATE = new DateTime(2016, 12, 12, 12, 0).toDate();
+    protected static final String PATTERN = "dd/MM/yyyy hh:mm:ss";
+    protected static final Locale LOCALE = new Locale("pt", "BR");
+
+    protected final TextOptions textOptions = new TextOptions();
+    protected final NameOptions nameOptions = new NameOptions();
+    protected final SsnOptions ssnOptions = new SsnOptions();
+
+    protected abstract Chance chance();
+
+    @Benchmark
+    public int integer() throws ChanceException {
+        return chance().integer();
+    }
+
+    @Benchmark
+    public long getLong() throws ChanceException {
+        return chance().getLong();
+    }
+
+    @Benchmark
+    public int natural() {
+        return chance().natural();
+    }
+
+    @Benchmark
+    public boolean bool() {
+        return chance().bool();
+    }
+
+    @Benchmark
+    public BigDecimal getBigDecimal() throws ChanceException {
+        return chance().getBigDecimal(-10, 100, 2);
+    }
+
+    @Benchmark
+    public float floating() throws ChanceException {
+        return chance().floating();
+    }
+
+    @Benchmark
+    public double getDouble() throws ChanceException {
+        return chance().getDouble();
+    }
+
+    @Benchmark
+    public char character() throws ChanceException {
+        return chance().character(textOptions);
+    }
+
+    @Benchmark
+    public String string() throws ChanceException {
+        return chance().string(textOptions);
+    }
+
+    @Benchmark
+    public String word() {
+        return chance().word();
+    }
+
+    @Benchmark
+    public String sentence() throws ChanceException {
+        return chance().sentence();
+    }
+
+    @Benchmark
+    public String paragraph() throws ChanceException {
+        return chance().paragraph();
+    }
+
+    @Benchmark
+    public long cpf() {
+        return chance().cpf();
+    }
+
+    @Benchmark
+    public String cpfAsText() {
+        return chance().cpfAsText(CpfOptions.masked);
+    }
+
+    @Benchmark
+    public long cnpj() {
+        return chance().cnpj();
+    }
+
+    @Benchmark
+    public String cnpjAsText() {
+        return chance().cnpjAsText(CnpjOptions.masked);
+    }
+
+    @Benchmark
+    public String firstName() {
+        return chance().firstName();
+    }
+
+    @Benchmark
+    public String weightedFirstName() {
+        return chance().weightedFirstName(Gender.Female, Nationality.English);
+    }
+
+    @Benchmark
+    public String lastName() {
+        return chance().lastName();
+    }
+
+    @Benchmark
+    public String name() {
+        return chance().name(nameOptions);
+    }
+
+    @Benchmark
+    public String ssn() throws ChanceException {
+        return chance().ssn(ssnOptions);
+    }
+
+    @Benchmark
+    public int age() {
+        return chance().age();
+    }
+
+    @Benchmark
+    public String monthAsText() {
+        return chance().monthAsText(Month.MonthOptions.fullName, LOCALE);
+    }
+
+    @Benchmark
+    public Date date() throws ChanceException {
+        return chance().date(MIN_DATE, MAX_DATE);
+    }
+
+    @Benchmark
+    public String dateAsText() throws ChanceException {
+        return chance().dateAsText(MIN_DATE, MAX_DATE, PATTERN, LOCALE);
+    }
+
+    @Benchmark
+    public Date timestamp() throws ChanceException {
+        return chance().timestamp(1994);
+    }
+
+    @Benchmark
+    public String timestampAsText() throws ChanceException {
+        return chance().timestampAsText(1994, PATTERN, LOCALE);
+    }
+
+    @Benchmark
+    public String timestampAsTextSpec() throws ChanceException {
+        return chance().timestampAsText(1994, DateFormatSpec.of(PATTERN, LOCALE));
+    }
+
+    @Benchmark
+    public Date birthday() throws ChanceException {
+        return chance().birthday();
+    }
+
+    @Benchmark
+    public String birthdayAsText() throws ChanceException {
+        return chance().birthdayAsText(PATTERN, LOCALE);
+    }
+
+    @Benchmark
+    public long epochMillis() {
+        return chance().epochMillis(1994);
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        return chance().localDate(1994);
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return chance().instant(1994);
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.benchmarks;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.random.RandomEngineType;
+import br.com.fidias.chance4j.time.Arrival;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bulk array generators against a loop over the scalar generator.
+ *
+ * @author atila
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"xoshiro256StarStar"})
+    private RandomEngineType engine;
+
+    private Chance chance;
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private boolean[] bools;
+
+    @Setup
+    public void setUp() {
+        chance = new Chance(engine.create(2016));
+        ints = new int[size];
+        longs = new long[size];
+        doubles = new double[size];
+        bools = new boolean[size];
+    }
+
+    @Benchmark
+    public int[] scalarInts() throws ChanceException {
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = chance.integer(-1000, 1000);
+        }
+        return ints;
+    }
+
+    @Benchmark
+    public int[] bulkInts() throws ChanceException {
+        return chance.ints(ints, -1000, 1000);
+    }
+
+    @Benchmark
+    public long[] scalarLongs() throws ChanceException {
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = chance.getLong(0, 1000000000000L);
+        }
+        return longs;
+    }
+
+    @Benchmark
+    public long[] bulkLongs() throws ChanceException {
+        return chance.longs(longs, 0, 1000000000000L);
+    }
+
+    @Benchmark
+    public double[] scalarDoubles() throws ChanceException {
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = chance.getDouble(-10, 100, 2);
+        }
+        return doubles;
+    }
+
+    @Benchmark
+    public double[] bulkDoubles() throws ChanceException {
+        return chance.doubles(doubles, -10, 100, 2);
+    }
+
+    @Benchmark
+    public boolean[] scalarBools() {
+        for (int i = 0; i < bools.length; i++) {
+            bools[i] = chance.bool();
+        }
+        return bools;
+    }
+
+    @Benchmark
+    public boolean[] bulkBools() throws ChanceException {
+        return chance.bools(bools, 50);
+    }
+
+    @Benchmark
+    public long[] sortedDates() throws ChanceException {
+        chance.longs(longs, 1468713600000L, 1468713600000L + longs.length * 100L);
+        Arrays.sort(longs);
+        return longs;
+    }
+
+    @Benchmark
+    public long[] timestamps() throws ChanceException {
+        return chance.timestamps(longs, 1468713600000L, 10, Arrival.poisson);
+    }
+}
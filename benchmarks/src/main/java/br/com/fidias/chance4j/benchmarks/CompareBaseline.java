@@ -0,0 +1,172 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files written with {@code -rf csv} and fails when a
+ * benchmark got slower, or allocates more, than the allowed tolerance.
+ * <pre>
+ * java -cp target/benchmarks.jar br.com.fidias.chance4j.benchmarks.CompareBaseline \
+ *     baseline/single-thread.csv jmh-result.csv 25
+ * </pre>
+ * Scores are compared as time per operation or bytes per operation, so the
+ * benchmarks are expected to run in {@code AverageTime} mode. Throughput
+ * scores are inverted before comparing. Rows are matched by benchmark and
+ * parameters; when they ran with a different number of threads the timings
+ * are not comparable, so only the allocation can fail the comparison and a
+ * warning is printed.
+ *
+ * @author atila
+ */
+public final class CompareBaseline {
+
+    private static final double DEFAULT_TOLERANCE = 25;
+    // below one byte per operation the relative change is only noise
+    private static final double MIN_ALLOCATION = 1;
+
+    private CompareBaseline() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: CompareBaseline <baseline.csv> <current.csv> [tolerance %]");
+            System.exit(2);
+        }
+        Map<String, Score> baseline = read(args[0]);
+        Map<String, Score> current = read(args[1]);
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE;
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %s%n", entry.getKey(), "new");
+                continue;
+            }
+            Score after = entry.getValue();
+            double change = (after.cost() - before.cost()) / before.floor() * 100;
+            boolean sameThreads = before.threads == after.threads;
+            boolean regressed = change > tolerance && (sameThreads || after.allocation);
+            if (regressed) {
+                regressions++;
+            }
+            String note = regressed ? "REGRESSION" : "";
+            if (!sameThreads) {
+                note += String.format(" (warning: %d threads, baseline %d)",
+                        after.threads, before.threads);
+            }
+            System.out.printf("%-70s %+8.1f%% %s%n", entry.getKey(), change, note.trim());
+        }
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.0f%%%n",
+                    regressions, tolerance);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(String file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(file),
+                StandardCharsets.UTF_8)) {
+            List<String> header = split(reader.readLine());
+            int benchmark = header.indexOf("Benchmark");
+            int mode = header.indexOf("Mode");
+            int threads = header.indexOf("Threads");
+            int score = header.indexOf("Score");
+            String line;
+            while ((line = reader.readLine()) != null) {
+                List<String> row = split(line);
+                StringBuilder key = new StringBuilder(row.get(benchmark));
+                for (int i = 0; i < header.size(); i++) {
+                    if (header.get(i).startsWith("Param: ")) {
+                        key.append(' ').append(header.get(i).substring(7))
+                                .append('=').append(row.get(i));
+                    }
+                }
+                String name = key.toString();
+                // only the primary score and the normalized allocation are stable
+                if (name.contains(":") && !name.contains(":gc.alloc.rate.norm")) {
+                    continue;
+                }
+                double value = Double.parseDouble(row.get(score));
+                boolean allocation = name.contains(":gc.alloc.rate.norm");
+                boolean throughput = !allocation && "thrpt".equals(row.get(mode));
+                scores.put(name, new Score(value, throughput, allocation,
+                        Integer.parseInt(row.get(threads))));
+            }
+        }
+        return scores;
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class Score {
+
+        private final double value;
+        private final boolean throughput;
+        private final boolean allocation;
+        private final int threads;
+
+        Score(double value, boolean throughput, boolean allocation, int threads) {
+            this.value = value;
+            this.throughput = throughput;
+            this.allocation = allocation;
+            this.threads = threads;
+        }
+
+        double cost() {
+            return throughput ? 1 / value : value;
+        }
+
+        double floor() {
+            return allocation ? Math.max(cost(), MIN_ALLOCATION) : cost();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.benchmarks;
+
+import br.com.fidias.chance4j.person.FirstName;
+import br.com.fidias.chance4j.person.Gender;
+import br.com.fidias.chance4j.person.LastName;
+import br.com.fidias.chance4j.person.name.Nationality;
+
+/**
+ * Prints the heap retained by the name dictionaries of each nationality,
+ * measured as used heap after a full collection, before and after loading.
+ * <pre>
+ * java -cp target/benchmarks.jar br.com.fidias.chance4j.benchmarks.DictionaryFootprint
+ * </pre>
+ * Run it on a JVM with a single collection thread, like -XX:+UseSerialGC, for
+ * stable numbers.
+ *
+ * @author atila
+ */
+public final class DictionaryFootprint {
+
+    private DictionaryFootprint() {
+    }
+
+    public static void main(String[] args) {
+        // load the measuring code itself first
+        usedHeap();
+        FirstName.class.getName();
+        LastName.class.getName();
+        for (Nationality nationality : new Nationality[]{
+            Nationality.Brazilian, Nationality.English, Nationality.Italian}) {
+            long before = usedHeap();
+            long start = System.nanoTime();
+            int names = FirstName.getFirstNames(Gender.Female, nationality).size()
+                    + FirstName.getFirstNames(Gender.Male, nationality).size()
+                    + LastName.getLastNames(nationality).size();
+            long elapsed = System.nanoTime() - start;
+            long retained = usedHeap() - before;
+            System.out.printf("%-10s %5d names %8d bytes %8d us%n",
+                    nationality, names, retained, elapsed / 1000);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
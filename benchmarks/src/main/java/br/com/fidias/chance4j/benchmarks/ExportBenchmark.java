@@ -0,0 +1,154 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.benchmarks;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.export.DatasetWriter;
+import br.com.fidias.chance4j.export.Format;
+import br.com.fidias.chance4j.person.AgeOptions;
+import br.com.fidias.chance4j.person.CpfOptions;
+import br.com.fidias.chance4j.person.name.NameOptions;
+import br.com.fidias.chance4j.record.RecordTemplate;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bytes per second written by {@link DatasetWriter}. Rows are generated
+ * before the measurement, so only the encoding and the channel are measured.
+ * The {@code bytes} counter is the throughput; {@code target} is either a
+ * channel that drops the bytes or a temporary file.
+ *
+ * @author atila
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExportBenchmark {
+
+    private final static int ROWS = 10000;
+
+    @Param({"csv", "tsv", "jsonLines"})
+    public Format format;
+
+    @Param({"discard", "file"})
+    public String target;
+
+    private Object[][] rows;
+    private RecordTemplate template;
+    private Path path;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() throws ChanceException, IOException {
+        Chance chance = new Chance(42);
+        template = RecordTemplate.builder()
+                .integer("id", 1, Integer.MAX_VALUE)
+                .name("name", new NameOptions())
+                .cpf("cpf", CpfOptions.masked)
+                .birthday("birthday", AgeOptions.adult)
+                .floating("score", 0, 100, 2)
+                .bool("active", 50)
+                .build();
+        rows = new Object[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = template.generate(chance);
+        }
+        path = Files.createTempFile("chance4j", ".export");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public long write(Counters counters) throws ChanceException, IOException {
+        WritableByteChannel channel = "file".equals(target)
+                ? FileChannel.open(path, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)
+                : new DiscardChannel();
+        long bytes;
+        try (DatasetWriter writer = new DatasetWriter(channel, format, template.getNames())) {
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    writer.field(i, row[i]);
+                }
+                writer.endRow();
+            }
+            bytes = writer.bytesWritten();
+        }
+        counters.bytes += bytes;
+        return bytes;
+    }
+
+    private static class DiscardChannel implements WritableByteChannel {
+
+        private boolean open = true;
+
+        @Override
+        public int write(ByteBuffer src) {
+            int bytes = src.remaining();
+            src.position(src.limit());
+            return bytes;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
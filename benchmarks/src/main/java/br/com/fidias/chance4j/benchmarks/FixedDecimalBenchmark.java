@@ -0,0 +1,88 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.benchmarks;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.random.RandomEngineType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fixed precision doubles and floats through integer scaling against the
+ * BigDecimal path they must match. Run with {@code -prof gc} to see the
+ * allocation per call.
+ *
+ * @author atila
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FixedDecimalBenchmark {
+
+    @Param({"2", "5"})
+    private int fixed;
+
+    @Param({"xoshiro256StarStar"})
+    private RandomEngineType engine;
+
+    private Chance chance;
+
+    @Setup
+    public void setUp() {
+        chance = new Chance(engine.create(2016));
+    }
+
+    @Benchmark
+    public double bigDecimalDouble() throws ChanceException {
+        return chance.getBigDecimal(null, null, fixed).doubleValue();
+    }
+
+    @Benchmark
+    public double getDouble() throws ChanceException {
+        return chance.getDouble(null, null, fixed);
+    }
+
+    @Benchmark
+    public float bigDecimalFloat() throws ChanceException {
+        return chance.getBigDecimal(null, null, fixed).floatValue();
+    }
+
+    @Benchmark
+    public float floating() throws ChanceException {
+        return chance.floating(null, null, fixed);
+    }
+}
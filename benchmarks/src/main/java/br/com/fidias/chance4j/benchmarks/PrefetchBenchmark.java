@@ -0,0 +1,97 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.benchmarks;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.prefetch.PrefetchedGenerator;
+import br.com.fidias.chance4j.prefetch.PrefetchingChance;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency distribution of generating a value on the calling thread against
+ * taking it from a {@link PrefetchingChance}. Look at the p0.99 rows, and at
+ * the underflows printed on tear down: when the caller drains the buffers
+ * faster than the refill thread fills them, every call pays the full cost.
+ *
+ * @author atila
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrefetchBenchmark {
+
+    private Chance chance;
+    private PrefetchingChance prefetching;
+    private PrefetchedGenerator<Integer> integers;
+    private PrefetchedGenerator<String> names;
+
+    @Setup
+    public void setUp() throws ChanceException {
+        chance = Chance.threadLocal();
+        prefetching = new PrefetchingChance(new Chance());
+        integers = prefetching.prefetch(Chance::integer, 1 << 16);
+        names = prefetching.prefetch(Chance::name, 1 << 16);
+    }
+
+    @TearDown
+    public void tearDown() {
+        prefetching.close();
+        System.out.printf("%nunderflows: integer %d, name %d%n",
+                integers.underflows(), names.underflows());
+    }
+
+    @Benchmark
+    public int integer() throws ChanceException {
+        return chance.integer();
+    }
+
+    @Benchmark
+    public int prefetchedInteger() throws ChanceException {
+        return integers.next();
+    }
+
+    @Benchmark
+    public String name() {
+        return chance.name();
+    }
+
+    @Benchmark
+    public String prefetchedName() throws ChanceException {
+        return names.next();
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.benchmarks;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.person.AgeOptions;
+import br.com.fidias.chance4j.person.CpfOptions;
+import br.com.fidias.chance4j.person.SsnOptions;
+import br.com.fidias.chance4j.person.name.NameOptions;
+import br.com.fidias.chance4j.record.RecordTemplate;
+import br.com.fidias.chance4j.record.RowSink;
+import br.com.fidias.chance4j.text.TextOptions;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Rows per millisecond of a customer record, written by hand against a
+ * compiled {@link RecordTemplate}.
+ *
+ * @author atila
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RecordTemplateBenchmark {
+
+    private Chance chance;
+    private RecordTemplate template;
+    private Object[] row;
+
+    @Setup
+    public void setUp() throws ChanceException {
+        chance = new Chance();
+        TextOptions textOptions = new TextOptions();
+        textOptions.setPoolType(TextOptions.PoolType.numeric);
+        template = RecordTemplate.builder()
+                .name("name", new NameOptions())
+                .cpf("cpf", CpfOptions.masked)
+                .ssn("ssn", new SsnOptions())
+                .birthday("birthday", AgeOptions.adult)
+                .string("code", textOptions, 10)
+                .build();
+        row = new Object[template.size()];
+    }
+
+    @Benchmark
+    public Object[] handWritten() throws ChanceException {
+        TextOptions textOptions = new TextOptions();
+        textOptions.setPoolType(TextOptions.PoolType.numeric);
+        return new Object[]{
+            chance.name(new NameOptions()),
+            chance.cpfAsText(CpfOptions.masked),
+            chance.ssn(new SsnOptions()),
+            chance.birthday(AgeOptions.adult),
+            chance.string(textOptions, 10)
+        };
+    }
+
+    @Benchmark
+    public Object[] array() throws ChanceException {
+        return template.generate(chance);
+    }
+
+    @Benchmark
+    public Object[] reusedArray() throws ChanceException {
+        return template.generate(chance, row);
+    }
+
+    @Benchmark
+    public Map<String, Object> map() throws ChanceException {
+        return template.generateMap(chance);
+    }
+
+    @Benchmark
+    public void sink(final Blackhole blackhole) throws ChanceException {
+        template.generate(chance, 1, new RowSink() {
+            @Override
+            public void field(int index, Object value) {
+                blackhole.consume(value);
+            }
+
+            @Override
+            public void endRow() {
+            }
+        });
+    }
+}
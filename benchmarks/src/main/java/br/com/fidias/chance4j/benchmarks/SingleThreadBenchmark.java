@@ -0,0 +1,64 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.benchmarks;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import java.util.Date;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Every generator on a plain Chance used by a single thread.
+ * <pre>
+ * java -jar target/benchmarks.jar SingleThreadBenchmark -prof gc
+ * </pre>
+ *
+ * @author atila
+ */
+@Threads(1)
+@State(Scope.Thread)
+public class SingleThreadBenchmark extends AbstractGeneratorBenchmark {
+
+    private Chance chance;
+    private Chance fixedClock;
+
+    @Setup
+    public void setUp() {
+        chance = new Chance();
+        fixedClock = chance.withFixedClock();
+    }
+
+    @Benchmark
+    public Date birthdayFixedClock() throws ChanceException {
+        return fixedClock.birthday();
+    }
+
+    @Override
+    protected Chance chance() {
+        return chance;
+    }
+}
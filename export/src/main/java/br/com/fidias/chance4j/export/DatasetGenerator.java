@@ -0,0 +1,159 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.export;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.record.RecordTemplate;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Generates a dataset in parallel, one shard file per partition.
+ *
+ * The rows are split in partitions of the same size (the first ones get one
+ * extra row when the division is not exact). Each partition is written by
+ * its own task with {@code chance.fork(partition)}, so the files never depend
+ * on the number of threads or on the order the tasks run. They depend on the
+ * seed, the template, the number of partitions and, for dates relative to
+ * now, on the clock of the chance: give it a fixed clock to reproduce them.
+ * The clock is read once per call, so every partition draws dates relative
+ * to the same instant, even when the run crosses midnight.
+ * <pre>
+ * Chance chance = new Chance(2016).withClock(
+ *         Clock.fixed(Instant.parse("2016-07-17T12:00:00Z"), ZoneOffset.UTC));
+ * DatasetGenerator generator = new DatasetGenerator(template, Format.csv, chance);
+ * List&lt;Path&gt; shards = generator.generate(Paths.get("out"), "people", 1000000000L, 64);
+ * </pre>
+ *
+ * @author atila
+ */
+public final class DatasetGenerator {
+
+    private final RecordTemplate template;
+    private final Format format;
+    private final Chance chance;
+
+    /**
+     * @param template Template of the rows
+     * @param format Format of the shards
+     * @param chance A seeded Chance, used to fork one Chance per partition
+     */
+    public DatasetGenerator(RecordTemplate template, Format format, Chance chance) {
+        this.template = template;
+        this.format = format;
+        this.chance = chance;
+    }
+
+    /**
+     * Generate the dataset on the common pool.
+     *
+     * @param directory Directory of the shards
+     * @param name Base name of the shards
+     * @param rows Total number of rows
+     * @param partitions Number of partitions and shard files
+     * @return The shard files, in partition order
+     * @throws ChanceException
+     * @see #generate(java.nio.file.Path, java.lang.String, long, int, java.util.concurrent.ForkJoinPool)
+     */
+    public List<Path> generate(Path directory, String name, long rows,
+            int partitions) throws ChanceException {
+        return generate(directory, name, rows, partitions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generate the dataset. The shard of partition {@code i} is named
+     * {@code name-0000i.ext}, with the extension of the format.
+     *
+     * @param directory Directory of the shards
+     * @param name Base name of the shards
+     * @param rows Total number of rows
+     * @param partitions Number of partitions and shard files
+     * @param pool Pool that runs the partitions
+     * @return The shard files, in partition order
+     * @throws ChanceException
+     */
+    public List<Path> generate(Path directory, String name, long rows,
+            int partitions, ForkJoinPool pool) throws ChanceException {
+        if (rows < 0) {
+            throw new ChanceException("Rows cannot be less than zero.");
+        }
+        if (partitions < 1) {
+            throw new ChanceException("Partitions cannot be less than one.");
+        }
+        final List<Path> shards = new ArrayList<>(partitions);
+        final List<Future<Void>> tasks = new ArrayList<>(partitions);
+        final long size = rows / partitions;
+        final long extra = rows % partitions;
+        // every partition draws dates relative to the same instant
+        final Chance base = chance.withFixedClock();
+        try {
+            for (int i = 0; i < partitions; i++) {
+                final Path shard = directory.resolve(String.format(
+                        "%s-%05d.%s", name, i, format.getExtension()));
+                final Chance partition = base.fork(i);
+                final long count = size + (i < extra ? 1 : 0);
+                shards.add(shard);
+                tasks.add(pool.submit(() -> {
+                    write(shard, partition, count);
+                    return null;
+                }));
+            }
+            for (Future<Void> task : tasks) {
+                task.get();
+            }
+        } catch (ChanceException ex) {
+            cancel(tasks);
+            throw ex;
+        } catch (InterruptedException ex) {
+            cancel(tasks);
+            Thread.currentThread().interrupt();
+            throw new ChanceException("Interrupted while generating the dataset.", ex);
+        } catch (ExecutionException ex) {
+            cancel(tasks);
+            if (ex.getCause() instanceof ChanceException) {
+                throw (ChanceException) ex.getCause();
+            }
+            throw new ChanceException("Could not generate the dataset.", ex.getCause());
+        }
+        return shards;
+    }
+
+    private void write(Path shard, Chance partition, long count)
+            throws ChanceException, IOException {
+        try (DatasetWriter writer = DatasetWriter.open(shard, format, template)) {
+            writer.write(template, partition, count);
+        }
+    }
+
+    private static void cancel(List<Future<Void>> tasks) {
+        for (Future<Void> task : tasks) {
+            task.cancel(true);
+        }
+    }
+}
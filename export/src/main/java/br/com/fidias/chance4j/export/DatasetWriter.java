@@ -0,0 +1,519 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.export;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.record.RecordTemplate;
+import br.com.fidias.chance4j.record.RowSink;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Writes rows of a {@link RecordTemplate} to a channel as CSV, TSV or JSON
+ * Lines.
+ *
+ * Values are encoded to UTF-8 into a small heap chunk, which is copied in
+ * bulk to a direct buffer, and the buffer is written to the channel whenever
+ * it fills up, so the memory used does not depend on the number of rows.
+ * Integers and booleans are written without creating strings, and dates are
+ * written as ISO-8601 instants in UTC. JSON has no NaN or infinity, so
+ * those are written as {@code null} in JSON Lines.
+ *
+ * CSV and TSV files start with a header line with the field names. Lines end
+ * with {@code \n}.
+ *
+ * @author atila
+ */
+public final class DatasetWriter implements RowSink, Closeable {
+
+    public final static int DEFAULT_BUFFER_SIZE = 1 << 20;
+    private final static int MIN_BUFFER_SIZE = 64;
+    private final static int CHUNK_SIZE = 8192;
+    private final static byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private final static byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private final static byte[] NULL = {'n', 'u', 'l', 'l'};
+    private final static byte[] HEX = {
+        '0', '1', '2', '3', '4', '5', '6', '7',
+        '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+    private final static long MILLIS_PER_DAY = 86400000L;
+    private final static long MIN_FAST_DATE = -62167219200000L; // 0000-01-01
+    private final static long MAX_FAST_DATE = 253402300800000L; // 10000-01-01
+
+    private final WritableByteChannel channel;
+    private final Format format;
+    private final ByteBuffer buffer;
+    private final byte[] chunk;
+    private int pos;
+    private final byte[][] keys;
+    private final byte[] digits = new byte[20];
+    private long bytesWritten;
+    private boolean closed;
+
+    /**
+     * Create a writer over a channel. The channel is closed with the writer.
+     *
+     * @param channel Destination of the rows
+     * @param format Format of the rows
+     * @param names Names of the fields, in the order of the template
+     * @param bufferSize Size in bytes of the buffer, at least 64
+     * @throws ChanceException
+     */
+    public DatasetWriter(WritableByteChannel channel, Format format,
+            List<String> names, int bufferSize) throws ChanceException {
+        if (channel == null || format == null || names == null) {
+            throw new ChanceException("Channel, format and names are required.");
+        }
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new ChanceException(String.format(
+                    "Buffer size cannot be less than %d bytes.", MIN_BUFFER_SIZE));
+        }
+        this.channel = channel;
+        this.format = format;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.chunk = new byte[Math.min(CHUNK_SIZE, bufferSize)];
+        this.keys = format == Format.jsonLines ? jsonKeys(names) : null;
+        if (keys == null) {
+            for (int i = 0; i < names.size(); i++) {
+                field(i, names.get(i));
+            }
+            endRow();
+        }
+    }
+
+    private DatasetWriter(WritableByteChannel channel) {
+        this.channel = channel;
+        this.format = Format.jsonLines;
+        this.buffer = ByteBuffer.allocate(MIN_BUFFER_SIZE);
+        this.chunk = new byte[MIN_BUFFER_SIZE];
+        this.keys = new byte[0][];
+    }
+
+    public DatasetWriter(WritableByteChannel channel, Format format,
+            List<String> names) throws ChanceException {
+        this(channel, format, names, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create, or truncate, a file and open a writer for the fields of the
+     * template.
+     *
+     * @param path File to be written
+     * @param format Format of the rows
+     * @param template Template whose rows will be written
+     * @return A writer of the file
+     * @throws ChanceException
+     */
+    public static DatasetWriter open(Path path, Format format,
+            RecordTemplate template) throws ChanceException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException ex) {
+            throw new ChanceException("Could not open the file.", ex);
+        }
+        try {
+            return new DatasetWriter(channel, format, template.getNames());
+        } catch (ChanceException ex) {
+            closeQuietly(channel);
+            throw ex;
+        }
+    }
+
+    /**
+     * Generate rows of a template and write them.
+     *
+     * @param template Template of the rows
+     * @param chance Source of random values
+     * @param rows Number of rows
+     * @throws ChanceException
+     */
+    public void write(RecordTemplate template, Chance chance, long rows)
+            throws ChanceException {
+        template.generate(chance, rows, this);
+    }
+
+    /**
+     * @return Number of bytes written so far, including the ones still in
+     * the buffer
+     */
+    public long bytesWritten() {
+        return bytesWritten + buffer.position() + pos;
+    }
+
+    @Override
+    public void field(int index, Object value) throws ChanceException {
+        if (keys != null) {
+            put(keys[index]);
+        } else if (index > 0) {
+            ensure(1);
+            chunk[pos++] = format == Format.csv ? (byte) ',' : (byte) '\t';
+        }
+        if (value == null) {
+            if (keys != null) {
+                put(NULL);
+            }
+        } else if (value instanceof CharSequence) {
+            text((CharSequence) value);
+        } else if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            number(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            put((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Date) {
+            date(((Date) value).getTime());
+        } else if (value instanceof Number) {
+            if (keys != null && !isFinite((Number) value)) {
+                put(NULL);
+            } else {
+                ascii(value.toString());
+            }
+        } else {
+            text(value.toString());
+        }
+    }
+
+    @Override
+    public void endRow() throws ChanceException {
+        ensure(2);
+        if (keys != null) {
+            chunk[pos++] = (byte) '}';
+        }
+        chunk[pos++] = (byte) '\n';
+    }
+
+    /**
+     * Write what is left in the buffer to the channel.
+     *
+     * @throws ChanceException
+     */
+    public void flush() throws ChanceException {
+        drain();
+        write();
+    }
+
+    private void write() throws ChanceException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            throw new ChanceException("Could not write the dataset.", ex);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Flush the buffer and close the channel.
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+        } catch (ChanceException ex) {
+            closeQuietly(channel);
+            throw new IOException(ex.getMessage(), ex.getCause());
+        }
+        channel.close();
+    }
+
+    private static byte[][] jsonKeys(List<String> names) throws ChanceException {
+        byte[][] keys = new byte[names.size()][];
+        ByteArrayOutputStream scratch = new ByteArrayOutputStream();
+        DatasetWriter writer = new DatasetWriter(Channels.newChannel(scratch));
+        for (int i = 0; i < keys.length; i++) {
+            scratch.reset();
+            writer.put(i == 0 ? (byte) '{' : (byte) ',');
+            writer.text(names.get(i));
+            writer.put((byte) ':');
+            writer.flush();
+            keys[i] = scratch.toByteArray();
+        }
+        return keys;
+    }
+
+    private static boolean isFinite(Number value) {
+        if (value instanceof Double) {
+            return !((Double) value).isNaN() && !((Double) value).isInfinite();
+        }
+        if (value instanceof Float) {
+            return !((Float) value).isNaN() && !((Float) value).isInfinite();
+        }
+        return true;
+    }
+
+    /**
+     * Move the chunk to the direct buffer. Values are encoded to a small heap
+     * chunk first, as each single put to a direct buffer checks its bounds
+     * and its scope.
+     */
+    private void drain() throws ChanceException {
+        if (buffer.remaining() < pos) {
+            write();
+        }
+        buffer.put(chunk, 0, pos);
+        pos = 0;
+    }
+
+    private void ensure(int bytes) throws ChanceException {
+        if (pos + bytes > chunk.length) {
+            drain();
+        }
+    }
+
+    private void put(byte value) throws ChanceException {
+        ensure(1);
+        chunk[pos++] = value;
+    }
+
+    private void put(byte[] bytes) throws ChanceException {
+        if (pos + bytes.length > chunk.length) {
+            drain();
+            if (bytes.length > chunk.length) {
+                for (byte b : bytes) {
+                    put(b);
+                }
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, chunk, pos, bytes.length);
+        pos += bytes.length;
+    }
+
+    private void ascii(String value) throws ChanceException {
+        for (int i = 0; i < value.length(); i++) {
+            put((byte) value.charAt(i));
+        }
+    }
+
+    private void number(long value) throws ChanceException {
+        if (value == Long.MIN_VALUE) {
+            ascii(Long.toString(value));
+            return;
+        }
+        ensure(digits.length);
+        if (value < 0) {
+            chunk[pos++] = (byte) '-';
+            value = -value;
+        }
+        int start = digits.length;
+        do {
+            digits[--start] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        System.arraycopy(digits, start, chunk, pos, digits.length - start);
+        pos += digits.length - start;
+    }
+
+    private void date(long millis) throws ChanceException {
+        if (millis < MIN_FAST_DATE || millis >= MAX_FAST_DATE) {
+            text(Instant.ofEpochMilli(millis).toString());
+            return;
+        }
+        // civil from days, by Howard Hinnant
+        long z = Math.floorDiv(millis, MILLIS_PER_DAY) + 719468;
+        int ofDay = (int) Math.floorMod(millis, MILLIS_PER_DAY);
+        long era = Math.floorDiv(z, 146097);
+        int doe = (int) (z - era * 146097);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = (int) (yoe + era * 400) + (month <= 2 ? 1 : 0);
+        ensure(26);
+        if (keys != null) {
+            chunk[pos++] = (byte) '"';
+        }
+        pad(year / 100, 2);
+        pad(year % 100, 2);
+        chunk[pos++] = (byte) '-';
+        pad(month, 2);
+        chunk[pos++] = (byte) '-';
+        pad(day, 2);
+        chunk[pos++] = (byte) 'T';
+        pad(ofDay / 3600000, 2);
+        chunk[pos++] = (byte) ':';
+        pad(ofDay / 60000 % 60, 2);
+        chunk[pos++] = (byte) ':';
+        pad(ofDay / 1000 % 60, 2);
+        int fraction = ofDay % 1000;
+        if (fraction != 0) {
+            chunk[pos++] = (byte) '.';
+            pad(fraction, 3);
+        }
+        chunk[pos++] = (byte) 'Z';
+        if (keys != null) {
+            chunk[pos++] = (byte) '"';
+        }
+    }
+
+    private void pad(int value, int width) {
+        if (width == 3) {
+            chunk[pos++] = (byte) ('0' + value / 100);
+            value %= 100;
+        }
+        chunk[pos++] = (byte) ('0' + value / 10);
+        chunk[pos++] = (byte) ('0' + value % 10);
+    }
+
+    private void text(CharSequence value) throws ChanceException {
+        final int length = value.length();
+        switch (format) {
+            case csv:
+                boolean quote = false;
+                for (int i = 0; i < length && !quote; i++) {
+                    char c = value.charAt(i);
+                    quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+                }
+                if (quote) {
+                    put((byte) '"');
+                }
+                for (int i = 0; i < length; i++) {
+                    char c = value.charAt(i);
+                    if (c == '"') {
+                        put((byte) '"');
+                    }
+                    i = encode(value, i, c);
+                }
+                if (quote) {
+                    put((byte) '"');
+                }
+                break;
+            case tsv:
+                for (int i = 0; i < length; i++) {
+                    char c = value.charAt(i);
+                    switch (c) {
+                        case '\t':
+                            escape('t');
+                            break;
+                        case '\n':
+                            escape('n');
+                            break;
+                        case '\r':
+                            escape('r');
+                            break;
+                        case '\\':
+                            escape('\\');
+                            break;
+                        default:
+                            i = encode(value, i, c);
+                    }
+                }
+                break;
+            default:
+                put((byte) '"');
+                for (int i = 0; i < length; i++) {
+                    char c = value.charAt(i);
+                    if (c == '"' || c == '\\') {
+                        escape(c);
+                    } else if (c == '\n') {
+                        escape('n');
+                    } else if (c == '\r') {
+                        escape('r');
+                    } else if (c == '\t') {
+                        escape('t');
+                    } else if (c < 0x20) {
+                        ensure(6);
+                        chunk[pos++] = '\\';
+                        chunk[pos++] = 'u';
+                        chunk[pos++] = '0';
+                        chunk[pos++] = '0';
+                        chunk[pos++] = HEX[c >> 4];
+                        chunk[pos++] = HEX[c & 0xf];
+                    } else {
+                        i = encode(value, i, c);
+                    }
+                }
+                put((byte) '"');
+        }
+    }
+
+    private void escape(char c) throws ChanceException {
+        ensure(2);
+        chunk[pos++] = (byte) '\\';
+        chunk[pos++] = (byte) c;
+    }
+
+    /**
+     * Encode a char, or a surrogate pair, to UTF-8. Lone surrogates are
+     * written as '?', like {@link String#getBytes(java.nio.charset.Charset)}.
+     *
+     * @return Index of the last char consumed
+     */
+    private int encode(CharSequence value, int i, char c) throws ChanceException {
+        if (c < 0x80 && pos < chunk.length) {
+            chunk[pos++] = (byte) c;
+            return i;
+        }
+        ensure(4);
+        if (c < 0x80) {
+            chunk[pos++] = (byte) c;
+        } else if (c < 0x800) {
+            chunk[pos++] = (byte) (0xc0 | (c >> 6));
+            chunk[pos++] = (byte) (0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+            int cp = Character.toCodePoint(c, value.charAt(++i));
+            chunk[pos++] = (byte) (0xf0 | (cp >> 18));
+            chunk[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+            chunk[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+            chunk[pos++] = (byte) (0x80 | (cp & 0x3f));
+        } else if (Character.isSurrogate(c)) {
+            chunk[pos++] = (byte) '?';
+        } else {
+            chunk[pos++] = (byte) (0xe0 | (c >> 12));
+            chunk[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+            chunk[pos++] = (byte) (0x80 | (c & 0x3f));
+        }
+        return i;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ex) {
+            // already failing
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.export;
+
+/**
+ * Output formats of a {@link DatasetWriter}.
+ *
+ * @author atila
+ */
+public enum Format {
+    /**
+     * Comma separated values with a header line. Fields with commas, quotes
+     * or line breaks are quoted, as in RFC 4180.
+     */
+    csv("csv"),
+    /**
+     * Tab separated values with a header line. Tabs, line breaks and
+     * backslashes in fields are escaped with a backslash.
+     */
+    tsv("tsv"),
+    /**
+     * One JSON object per line.
+     */
+    jsonLines("jsonl");
+
+    private final String extension;
+
+    private Format(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * @return Usual file extension, without the dot
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
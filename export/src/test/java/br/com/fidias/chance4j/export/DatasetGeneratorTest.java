@@ -0,0 +1,114 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.export;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.person.CpfOptions;
+import br.com.fidias.chance4j.person.name.NameOptions;
+import br.com.fidias.chance4j.record.RecordTemplate;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ *
+ * @author atila
+ */
+public class DatasetGeneratorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private RecordTemplate template;
+
+    @Before
+    public void setUp() throws ChanceException {
+        template = RecordTemplate.builder()
+                .integer("id", 1, 1000000)
+                .name("name", new NameOptions())
+                .cpf("cpf", CpfOptions.masked)
+                .build();
+    }
+
+    @Test
+    public void shards() throws ChanceException, IOException {
+        DatasetGenerator generator = new DatasetGenerator(template, Format.csv, new Chance(2016));
+        List<Path> shards = generator.generate(folder.getRoot().toPath(), "people", 1003, 4);
+        assertEquals("one shard per partition", 4, shards.size());
+        int[] expected = {251, 251, 251, 250};
+        for (int i = 0; i < shards.size(); i++) {
+            Path shard = shards.get(i);
+            assertEquals("shard name", String.format("people-%05d.csv", i),
+                    shard.getFileName().toString());
+            List<String> lines = Files.readAllLines(shard, StandardCharsets.UTF_8);
+            assertEquals("header", "id,name,cpf", lines.get(0));
+            assertEquals("rows of partition " + i, expected[i], lines.size() - 1);
+        }
+    }
+
+    @Test
+    public void deterministic() throws ChanceException, IOException {
+        Path one = folder.newFolder("one").toPath();
+        Path two = folder.newFolder("two").toPath();
+        List<Path> first = new DatasetGenerator(template, Format.jsonLines, new Chance(42))
+                .generate(one, "rows", 5000, 8, new ForkJoinPool(1));
+        List<Path> second = new DatasetGenerator(template, Format.jsonLines, new Chance(42))
+                .generate(two, "rows", 5000, 8, new ForkJoinPool(4));
+        for (int i = 0; i < first.size(); i++) {
+            assertArrayEquals("same shard for the same seed",
+                    Files.readAllBytes(first.get(i)), Files.readAllBytes(second.get(i)));
+        }
+        assertFalse("partitions differ", new String(Files.readAllBytes(first.get(0)),
+                StandardCharsets.UTF_8).equals(new String(Files.readAllBytes(first.get(1)),
+                StandardCharsets.UTF_8)));
+    }
+
+    @Test(expected = ChanceException.class)
+    public void notSeeded() throws ChanceException {
+        new DatasetGenerator(template, Format.csv, new Chance())
+                .generate(folder.getRoot().toPath(), "rows", 10, 2);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void noPartitions() throws ChanceException {
+        new DatasetGenerator(template, Format.csv, new Chance(1))
+                .generate(folder.getRoot().toPath(), "rows", 10, 0);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void missingDirectory() throws ChanceException {
+        new DatasetGenerator(template, Format.csv, new Chance(1))
+                .generate(folder.getRoot().toPath().resolve("missing"), "rows", 10, 2);
+    }
+}
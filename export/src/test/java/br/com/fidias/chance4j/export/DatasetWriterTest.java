@@ -0,0 +1,163 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.export;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.record.RecordTemplate;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class DatasetWriterTest {
+
+    private final static List<String> NAMES = Arrays.asList("id", "name", "active");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String write(Format format, int bufferSize, Object[]... rows)
+            throws ChanceException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DatasetWriter writer = new DatasetWriter(Channels.newChannel(out),
+                format, NAMES, bufferSize)) {
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    writer.field(i, row[i]);
+                }
+                writer.endRow();
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void csv() throws ChanceException, IOException {
+        String text = write(Format.csv, 64,
+                new Object[]{1, "Ana", true},
+                new Object[]{-42L, "Silva, \"Zé\"", false},
+                new Object[]{Long.MIN_VALUE, "two\nlines", null});
+        assertEquals("id,name,active\n"
+                + "1,Ana,true\n"
+                + "-42,\"Silva, \"\"Zé\"\"\",false\n"
+                + "-9223372036854775808,\"two\nlines\",\n", text);
+    }
+
+    @Test
+    public void tsv() throws ChanceException, IOException {
+        String text = write(Format.tsv, 64,
+                new Object[]{7, "a\tb\\c\r\n", true});
+        assertEquals("id\tname\tactive\n7\ta\\tb\\\\c\\r\\n\ttrue\n", text);
+    }
+
+    @Test
+    public void jsonLines() throws ChanceException, IOException {
+        String text = write(Format.jsonLines, 64,
+                new Object[]{1, "quote \" slash \\ bell \u0007", null},
+                new Object[]{2.5, "x", false});
+        assertEquals("{\"id\":1,\"name\":\"quote \\\" slash \\\\ bell \\u0007\",\"active\":null}\n"
+                + "{\"id\":2.5,\"name\":\"x\",\"active\":false}\n", text);
+    }
+
+    @Test
+    public void jsonLinesNotFinite() throws ChanceException, IOException {
+        String text = write(Format.jsonLines, 64,
+                new Object[]{Double.NaN, "x", Float.POSITIVE_INFINITY},
+                new Object[]{Double.NEGATIVE_INFINITY, "y", 1.5f});
+        assertEquals("{\"id\":null,\"name\":\"x\",\"active\":null}\n"
+                + "{\"id\":null,\"name\":\"y\",\"active\":1.5}\n", text);
+        text = write(Format.csv, 64, new Object[]{Double.NaN, "x", true});
+        assertEquals("id,name,active\nNaN,x,true\n", text);
+    }
+
+    @Test
+    public void utf8AcrossFlushes() throws ChanceException, IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append("São Tomé \u20ac \ud83d\ude00 ");
+        }
+        String value = builder.toString();
+        String text = write(Format.csv, 64, new Object[]{1, value, true});
+        assertEquals("id,name,active\n1," + value + ",true\n", text);
+        text = write(Format.csv, 64, new Object[]{1, "lone \ud83d", true});
+        assertTrue("lone surrogate", text.endsWith("1,lone ?,true\n"));
+    }
+
+    @Test
+    public void dates() throws ChanceException, IOException {
+        long[] instants = {
+            0L, 951782400123L, 1709164799999L, 253402300799999L,
+            253402300800000L, -1L, -86400001L, -631152000000L,
+            -62135596800000L, -62167219200000L, -62167219200001L
+        };
+        for (long millis : instants) {
+            String text = write(Format.csv, 64, new Object[]{1, new Date(millis), true});
+            assertEquals("ISO-8601 of " + millis,
+                    "id,name,active\n1," + Instant.ofEpochMilli(millis) + ",true\n", text);
+        }
+        String text = write(Format.jsonLines, 64, new Object[]{1, new Date(0), true});
+        assertEquals("{\"id\":1,\"name\":\"1970-01-01T00:00:00Z\",\"active\":true}\n", text);
+    }
+
+    @Test
+    public void writeTemplateToFile() throws ChanceException, IOException {
+        RecordTemplate template = RecordTemplate.builder()
+                .integer("id", 1, 1000)
+                .bool("active", 50)
+                .build();
+        Path path = folder.newFile("rows.jsonl").toPath();
+        long bytes;
+        try (DatasetWriter writer = DatasetWriter.open(path, Format.jsonLines, template)) {
+            writer.write(template, new Chance(42), 1000);
+            bytes = writer.bytesWritten();
+        }
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        assertEquals("one line per row", 1000, lines.size());
+        assertEquals("bytes written", Files.size(path), bytes);
+        for (String line : lines) {
+            assertTrue(line, line.matches("\\{\"id\":\\d+,\"active\":(true|false)\\}"));
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void bufferTooSmall() throws ChanceException {
+        new DatasetWriter(Channels.newChannel(new ByteArrayOutputStream()),
+                Format.csv, NAMES, 16);
+    }
+}
@@ -30,31 +30,53 @@ import br.com.fidias.chance4j.person.CpfOptions;
 import br.com.fidias.chance4j.person.FirstName;
 import br.com.fidias.chance4j.person.Gender;
 import br.com.fidias.chance4j.person.LastName;
+import br.com.fidias.chance4j.person.NameFrequency;
 import br.com.fidias.chance4j.person.NamePrefix;
 import br.com.fidias.chance4j.person.Ssn;
 import br.com.fidias.chance4j.person.SsnOptions;
+import br.com.fidias.chance4j.person.name.NameList;
 import br.com.fidias.chance4j.person.name.NameOptions;
 import br.com.fidias.chance4j.person.name.Nationality;
 import br.com.fidias.chance4j.person.name.PrefixSuffixOptions;
+import br.com.fidias.chance4j.random.AliasTable;
+import br.com.fidias.chance4j.random.MersenneTwisterEngine;
+import br.com.fidias.chance4j.random.RandomEngine;
+import br.com.fidias.chance4j.random.RandomEngineType;
+import br.com.fidias.chance4j.random.SplitMix64Engine;
+import br.com.fidias.chance4j.random.ThreadLocalRandomEngine;
+import br.com.fidias.chance4j.text.CharPool;
 import br.com.fidias.chance4j.text.TextOptions;
 import br.com.fidias.chance4j.text.Character;
+import br.com.fidias.chance4j.time.Arrival;
+import br.com.fidias.chance4j.time.DateFormatSpec;
+import br.com.fidias.chance4j.time.EpochTime;
 import br.com.fidias.chance4j.time.Hour;
 import br.com.fidias.chance4j.time.Millisecond;
 import br.com.fidias.chance4j.time.Minute;
 import br.com.fidias.chance4j.time.Month;
 import br.com.fidias.chance4j.time.Second;
+import br.com.fidias.chance4j.unique.UniqueGenerator;
+import br.com.fidias.chance4j.unique.UniqueLongGenerator;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.BitSet;
 import java.util.Date;
 import java.util.Locale;
+import java.util.TimeZone;
+import java.util.function.ToLongFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.math3.random.MersenneTwister;
-import org.apache.commons.math3.random.RandomDataGenerator;
-import org.joda.time.DateTime;
-import org.joda.time.DateTimeConstants;
-import org.joda.time.MonthDay;
 
 /**
  *
@@ -70,6 +92,23 @@ public class Chance {
      * overflow and give wrong number of decimals.
      */
     public final static int FORCE_INCREASE_FIXED = 2;
+    private final static int FORCE_INCREASE_FACTOR = 100;
+    /**
+     * Greatest fixed precision whose scale, 10^(fixed + FORCE_INCREASE_FIXED),
+     * still fits in an int, so values can be computed with integer scaling.
+     */
+    private final static int MAX_SCALED_FIXED = 7;
+    // the 29 low bits of a double mantissa are lost when narrowing to float
+    private final static long FLOAT_DROPPED_BITS = (1L << 29) - 1;
+    private final static long FLOAT_HALFWAY = 1L << 28;
+    /**
+     * Widest range of {@link #unique(long, long)}, 2^40 values or 128 GB of
+     * bits.
+     */
+    public final static long MAX_UNIQUE_RANGE = 1L << 40;
+    private final static int[] POWERS_OF_TEN = {
+        1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
     public final static int MIN_SENTENCES_FOR_PARAGRAPH = 3;
     public final static int MAX_SENTENCES_FOR_PARAGRAPH = 7;
     public final static int MIN_WORDS_FOR_SENTENCE = 12;
@@ -81,18 +120,216 @@ public class Chance {
     public final static int MIN_CHAR_FOR_SYLLABLE = 2;
     public final static int MAX_CHAR_FOR_SYLLABLE = 3;
 
-    private final RandomDataGenerator random;
+    private final static CharPool NUMERIC = builtInPool(
+            TextOptions.PoolType.numeric, TextOptions.Casing.lower);
+    private final static CharPool UPPER_ALPHA = builtInPool(
+            TextOptions.PoolType.alpha, TextOptions.Casing.upper);
+    /**
+     * Zone of the dates and timestamps returned as {@link Date}, read once,
+     * as Joda did for its default zone.
+     */
+    private final static TimeZone ZONE = TimeZone.getDefault();
+    private final static Clock SYSTEM_CLOCK = Clock.system(ZONE.toZoneId());
+
+    private final RandomEngine random;
+    // engine type and seed of a seeded instance, so it can be forked
+    private final RandomEngineType type;
+    private final long seed;
+    // source of the current year and instant, in its own zone
+    private final Clock clock;
+    private final TimeZone clockZone;
 
     /**
-     * Creates an instance of RandomDataGenerator with the Mersenne Twister
-     * generator created by Apache Commons Math library.
+     * Creates an instance with the Mersenne Twister generator created by
+     * Apache Commons Math library.
      *
      * The Mersenne Twister is a pseudorandom number generator (PRNG). It is by
      * far the most widely used general-purpose PRNG.[1] Its name derives from
      * the fact that its period length is chosen to be a Mersenne prime.
+     *
+     * @see #Chance(br.com.fidias.chance4j.random.RandomEngine)
      */
     public Chance() {
-        this.random = new RandomDataGenerator(new MersenneTwister());
+        this(new MersenneTwisterEngine());
+    }
+
+    /**
+     * Creates an instance using the given random engine.
+     * <pre>
+     * Chance chance = new Chance(RandomEngineType.xoshiro256StarStar.create());
+     * </pre>
+     *
+     * @param engine Source of randomness, one of
+     * {@link br.com.fidias.chance4j.random.RandomEngineType} or a custom
+     * implementation
+     */
+    public Chance(RandomEngine engine) {
+        this(engine, null, 0);
+    }
+
+    /**
+     * Creates an instance with a seeded Mersenne Twister. The same seed always
+     * produces the same values, so a run can be reproduced.
+     * <pre>
+     * Chance chance = new Chance(2016);
+     * </pre>
+     *
+     * @param seed Initial seed
+     * @see #fork(int)
+     */
+    public Chance(long seed) {
+        this(RandomEngineType.mersenneTwister, seed);
+    }
+
+    /**
+     * Creates an instance with a seeded engine of the given type.
+     * <pre>
+     * Chance chance = new Chance(RandomEngineType.xoshiro256StarStar, 2016);
+     * </pre>
+     *
+     * @param type Type of the engine
+     * @param seed Initial seed
+     * @see #fork(int)
+     */
+    public Chance(RandomEngineType type, long seed) {
+        this(type.create(seed), type, seed);
+    }
+
+    private Chance(RandomEngine engine, RandomEngineType type, long seed) {
+        this(engine, type, seed, SYSTEM_CLOCK);
+    }
+
+    private Chance(RandomEngine engine, RandomEngineType type, long seed, Clock clock) {
+        this(engine, type, seed, clock,
+                clock == SYSTEM_CLOCK ? ZONE : TimeZone.getTimeZone(clock.getZone()));
+    }
+
+    private Chance(RandomEngine engine, RandomEngineType type, long seed, Clock clock,
+            TimeZone clockZone) {
+        this.random = engine;
+        this.type = type;
+        this.seed = seed;
+        this.clock = clock;
+        this.clockZone = clockZone;
+    }
+
+    /**
+     * Creates an instance that can be shared between threads. Each thread
+     * draws from its own independently seeded engine, so there is neither
+     * locking nor shared mutable state.
+     * <pre>
+     * Chance chance = Chance.threadLocal(RandomEngineType.xoshiro256StarStar);
+     * </pre>
+     *
+     * @param type Engine created for each thread
+     * @return A thread-safe Chance
+     */
+    public static Chance threadLocal(RandomEngineType type) {
+        return new Chance(new ThreadLocalRandomEngine(type));
+    }
+
+    /**
+     * Creates an instance that can be shared between threads, using one
+     * Mersenne Twister per thread.
+     *
+     * @return A thread-safe Chance
+     * @see #threadLocal(br.com.fidias.chance4j.random.RandomEngineType)
+     */
+    public static Chance threadLocal() {
+        return threadLocal(RandomEngineType.mersenneTwister);
+    }
+
+    /**
+     * Creates a new instance whose engine is seeded from this one. Both
+     * instances are statistically independent and can be used by different
+     * threads.
+     *
+     * @return A new Chance
+     * @see RandomEngine#split()
+     */
+    public Chance split() {
+        return new Chance(random.split(), null, 0, clock, clockZone);
+    }
+
+    /**
+     * Creates the instance of a partition of a seeded Chance. Its seed is the
+     * output number partition of a SplitMix64 generator seeded with this
+     * seed, so it depends on nothing but the seed and the partition: no
+     * matter how many partitions exist, in which order or on which thread
+     * they are created, partition N always yields the same values. Values
+     * already drawn from this instance do not matter either.
+     * <pre>
+     * Chance root = new Chance(2016);
+     * Chance third = root.fork(2);
+     * </pre>
+     *
+     * @param partition Number of the partition, from zero
+     * @return A new seeded Chance, with the same type of engine
+     * @throws ChanceException if this instance was not created with a seed
+     * or the partition is less than zero
+     */
+    public Chance fork(int partition) throws ChanceException {
+        if (type == null) {
+            throw new ChanceException("Only a Chance created with a seed can be forked.");
+        }
+        if (partition < 0) {
+            throw new ChanceException("Partition cannot be less than zero.");
+        }
+        long childSeed = SplitMix64Engine.mix64(
+                seed + (partition + 1L) * SplitMix64Engine.GOLDEN_GAMMA);
+        return new Chance(type.create(childSeed), type, childSeed, clock, clockZone);
+    }
+
+    /**
+     * Creates an instance that shares this engine, but reads the current
+     * time from the given clock. Generators relative to now, like
+     * {@link #year()}, {@link #birthday()} and {@link #date()}, use it, and
+     * so do the instances split or forked from it. Dates of a year and the
+     * text of dates are built in the zone of the clock. A fixed clock makes
+     * them reproducible:
+     * <pre>
+     * Chance chance = new Chance(2016).withClock(
+     *         Clock.fixed(Instant.parse("2016-07-17T12:00:00Z"), ZoneOffset.UTC));
+     * </pre>
+     *
+     * @param clock Clock of the current time, in its zone
+     * @return A new Chance with the same engine
+     * @throws ChanceException if the clock is null
+     */
+    public Chance withClock(Clock clock) throws ChanceException {
+        if (clock == null) {
+            throw new ChanceException("Clock cannot be null.");
+        }
+        return new Chance(random, type, seed, clock);
+    }
+
+    /**
+     * Creates an instance that shares this engine, with the clock stopped
+     * at its current instant. A batch that spans midnight of New Year still
+     * draws every birthday relative to the same year, and reads the clock
+     * only once.
+     *
+     * @return A new Chance with the same engine and a fixed clock
+     * @see #withClock(java.time.Clock)
+     */
+    public Chance withFixedClock() {
+        return new Chance(random, type, seed, Clock.fixed(clock.instant(), clock.getZone()),
+                clockZone);
+    }
+
+    /**
+     * @return The clock of the current time, the system clock in the
+     * default zone unless set with {@link #withClock(java.time.Clock)}
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return The random engine of this instance
+     */
+    RandomEngine engine() {
+        return random;
     }
 
     /**
@@ -245,7 +482,7 @@ public class Chance {
         if (likelihood < 0 || likelihood > 100) {
             throw new ChanceException("Likelihood accepts values from 0 to 100.");
         }
-        return random.nextUniform(0, 100) < likelihood;
+        return random.nextDouble() * 100 < likelihood;
     }
 
     /**
@@ -269,6 +506,53 @@ public class Chance {
         return result;
     }
 
+    /**
+     * Pick an item with probability proportional to its weight.
+     * <pre>
+     * chance.weighted(new String[]{"a", "b", "c"}, new double[]{1, 2, 7});
+     * => "c"
+     * </pre>
+     *
+     * Building the alias table takes time proportional to the number of
+     * items; to draw many times from the same weights, build it once with
+     * {@link AliasTable#of(double[])} and use
+     * {@link #weighted(java.lang.Object[], br.com.fidias.chance4j.random.AliasTable)}.
+     *
+     * @param <T> Type of the items
+     * @param items Items to pick from
+     * @param weights Weight of each item, not necessarily summing to one
+     * @return One of the items
+     * @throws ChanceException if lengths differ or the weights are invalid
+     */
+    public <T> T weighted(T[] items, double[] weights) throws ChanceException {
+        if (items.length != weights.length) {
+            throw new ChanceException("Length of array and weights must match.");
+        }
+        return items[AliasTable.of(weights).next(random)];
+    }
+
+    /**
+     * Pick an item with probability given by an alias table, in constant
+     * time.
+     * <pre>
+     * AliasTable table = AliasTable.of(new double[]{1, 2, 7});
+     * chance.weighted(new String[]{"a", "b", "c"}, table);
+     * => "c"
+     * </pre>
+     *
+     * @param <T> Type of the items
+     * @param items Items to pick from
+     * @param table Alias table with one weight per item
+     * @return One of the items
+     * @throws ChanceException if lengths differ
+     */
+    public <T> T weighted(T[] items, AliasTable table) throws ChanceException {
+        if (items.length != table.size()) {
+            throw new ChanceException("Length of array and weights must match.");
+        }
+        return items[table.next(random)];
+    }
+
     /**
      * Return a random BigDecimal number.
      * <pre>
@@ -283,34 +567,154 @@ public class Chance {
      * @throws ChanceException
      */
     public BigDecimal getBigDecimal(Integer min, Integer max, int fixed) throws ChanceException {
+        int localFixed = scale(fixed);
+        int localMax = Integer.MAX_VALUE / localFixed;
+        checkFixedRange(min, max, localMax);
+        if (max == null) {
+            max = localMax;
+        }
+        if (min == null) {
+            min = -localMax;
+        }
+        int num = integer(min * localFixed, max * localFixed);
+        return toBigDecimal(num, localFixed, fixed);
+    }
+
+    /**
+     * Scale of a fixed precision number, 10^(fixed + FORCE_INCREASE_FIXED).
+     *
+     * @param fixed Fixed precision
+     * @return The scale
+     */
+    private static int scale(int fixed) {
+        int exponent = fixed + FORCE_INCREASE_FIXED;
+        if (exponent >= 0 && exponent < POWERS_OF_TEN.length) {
+            return POWERS_OF_TEN[exponent];
+        }
+        return (int) Math.pow(10, exponent);
+    }
+
+    /**
+     * Draw the scaled integer behind a fixed precision number, the same one
+     * {@link #getBigDecimal(java.lang.Integer, java.lang.Integer, int)} draws.
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @param localFixed Scale of the precision
+     * @return A random scaled integer
+     * @throws ChanceException
+     */
+    private int scaledInteger(Integer min, Integer max, int localFixed) throws ChanceException {
+        int localMax = Integer.MAX_VALUE / localFixed;
+        checkFixedRange(min, max, localMax);
+        int low = (min == null ? -localMax : min) * localFixed;
+        int high = (max == null ? localMax : max) * localFixed;
+        return random.nextInt(low, high);
+    }
+
+    private static CharPool builtInPool(TextOptions.PoolType poolType, TextOptions.Casing casing) {
+        TextOptions options = new TextOptions();
+        options.setPoolType(poolType);
+        options.setCasing(casing);
+        try {
+            return options.compile();
+        } catch (ChanceException e) {
+            // it's never throw
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Validate the arguments of a fixed precision number, as
+     * {@link #floating(java.lang.Integer, java.lang.Integer, int)} does, but
+     * without drawing it.
+     *
+     * @param min Minimum value to choose from, null for the widest range
+     * @param max Maximum value to choose from, null for the widest range
+     * @param fixed Fixed precision
+     * @throws ChanceException if the precision is too small or the range
+     * does not fit it
+     */
+    public static void checkFixed(Integer min, Integer max, int fixed) throws ChanceException {
+        if (fixed < -FORCE_INCREASE_FIXED) {
+            throw new ChanceException(String.format(
+                    "Fixed cannot be less than %d.", -FORCE_INCREASE_FIXED));
+        }
+        checkFixedRange(min, max, Integer.MAX_VALUE / scale(fixed));
+    }
+
+    /**
+     * Validate the range of a fixed precision number.
+     *
+     * @param min Minimum value to choose from, null for the widest range
+     * @param max Maximum value to choose from, null for the widest range
+     * @param localMax Widest range allowed by the precision
+     * @throws ChanceException
+     */
+    private static void checkFixedRange(Integer min, Integer max, int localMax)
+            throws ChanceException {
         if (min != null && max != null && max < min) {
             throw new ChanceException("Max must be greater than min.");
         }
-
-        int num;
-        int localFixed = (int) Math.pow(10, fixed + FORCE_INCREASE_FIXED);
-        int localMax = (int) (Integer.MAX_VALUE / localFixed);
-        int localMin = -localMax;
-        if (max == null) {
-            max = localMax;
-        } else if (max > localMax) {
+        if (max != null && max > localMax) {
             final String message = "Max specified (%d) is out of range with fixed. "
                     + "Max should be, at most, %d";
             throw new ChanceException(String.format(message, max, localMax));
         }
-        if (min == null) {
-            min = localMin;
-        } else if (min < localMin) {
+        if (min != null && min < -localMax) {
             final String message = "Min specified (%d) is out of range with fixed. "
                     + "Min should be, at least, %d";
-            throw new ChanceException(String.format(message, min, localMin));
+            throw new ChanceException(String.format(message, min, -localMax));
         }
-        num = integer(min * localFixed, max * localFixed);
+    }
+
+    private static BigDecimal toBigDecimal(int num, int localFixed, int fixed) {
         BigDecimal bd = new BigDecimal(num)
                 .divide(new BigDecimal(localFixed), MathContext.UNLIMITED);
         return bd.setScale(fixed, RoundingMode.UP);
     }
 
+    /**
+     * Same rounding as {@link #toBigDecimal(int, int, int)}: drop the forced
+     * digits, away from zero.
+     */
+    private static int unscaledValue(int num) {
+        int value = num / FORCE_INCREASE_FACTOR;
+        if (value * FORCE_INCREASE_FACTOR != num) {
+            value += num < 0 ? -1 : 1;
+        }
+        return value;
+    }
+
+    /**
+     * Same value as {@code toBigDecimal(num, localFixed, fixed).doubleValue()}
+     * without allocating. Dividing by an exact power of ten is correctly
+     * rounded, just like {@link BigDecimal#doubleValue()}.
+     */
+    private static double toDouble(int num, int localFixed, int fixed) {
+        if (fixed < 0 || fixed > MAX_SCALED_FIXED) {
+            return toBigDecimal(num, localFixed, fixed).doubleValue();
+        }
+        return unscaledValue(num) / (double) POWERS_OF_TEN[fixed];
+    }
+
+    /**
+     * Same value as {@code toBigDecimal(num, localFixed, fixed).floatValue()}
+     * without allocating. Rounding the double to float gives the correctly
+     * rounded float, unless the double fell exactly halfway between two
+     * floats; only then the exact decimal is needed.
+     */
+    private static float toFloat(int num, int localFixed, int fixed) {
+        if (fixed < 0 || fixed > MAX_SCALED_FIXED) {
+            return toBigDecimal(num, localFixed, fixed).floatValue();
+        }
+        double value = unscaledValue(num) / (double) POWERS_OF_TEN[fixed];
+        if ((Double.doubleToRawLongBits(value) & FLOAT_DROPPED_BITS) == FLOAT_HALFWAY) {
+            return toBigDecimal(num, localFixed, fixed).floatValue();
+        }
+        return (float) value;
+    }
+
     /**
      * Return a random floating point number.
      * <pre>
@@ -325,7 +729,8 @@ public class Chance {
      * @throws ChanceException Min cannot be greater than Max.
      */
     public float floating(Integer min, Integer max, int fixed) throws ChanceException {
-        return getBigDecimal(min, max, fixed).floatValue();
+        int localFixed = scale(fixed);
+        return toFloat(scaledInteger(min, max, localFixed), localFixed, fixed);
     }
 
     /**
@@ -420,8 +825,8 @@ public class Chance {
      * @throws ChanceException
      */
     public float getFloatPositive(int fixed) throws ChanceException {
-        int limit = (int) Math.pow(10, fixed + FORCE_INCREASE_FIXED);
-        return floating(0, (int) Integer.MAX_VALUE / limit, fixed);
+        int limit = scale(fixed);
+        return floating(0, Integer.MAX_VALUE / limit, fixed);
     }
 
     /**
@@ -455,7 +860,8 @@ public class Chance {
      * @throws ChanceException
      */
     public double getDouble(Integer min, Integer max, int fixed) throws ChanceException {
-        return getBigDecimal(min, max, fixed).doubleValue();
+        int localFixed = scale(fixed);
+        return toDouble(scaledInteger(min, max, localFixed), localFixed, fixed);
     }
 
     /**
@@ -500,8 +906,8 @@ public class Chance {
      * @throws ChanceException
      */
     public double getDoublePositive(int fixed) throws ChanceException {
-        int limit = (int) Math.pow(10, fixed + FORCE_INCREASE_FIXED);
-        return getDouble(0, (int) Integer.MAX_VALUE / limit, fixed);
+        int limit = scale(fixed);
+        return getDouble(0, Integer.MAX_VALUE / limit, fixed);
     }
 
     /**
@@ -519,6 +925,150 @@ public class Chance {
         return getDoublePositive(DECIMAL_SIZE_DEFAULT_VALUE);
     }
 
+    /**
+     * Fill an array with random integers between min and max. The range is
+     * validated once for the whole array.
+     * <pre>
+     * int[] values = chance.ints(new int[1000], 1, 6);
+     * </pre>
+     *
+     * @param dst Array to fill
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return The same array
+     * @throws ChanceException Min cannot be greater than Max.
+     */
+    public int[] ints(int[] dst, int min, int max) throws ChanceException {
+        if (min > max) {
+            throw new ChanceException("Min cannot be greater than Max.");
+        }
+        random.nextInts(dst, min, max);
+        return dst;
+    }
+
+    /**
+     * Fill an array with random longs between min and max. The range is
+     * validated once for the whole array.
+     * <pre>
+     * long[] values = chance.longs(new long[1000], 0, 1000000000000L);
+     * </pre>
+     *
+     * @param dst Array to fill
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return The same array
+     * @throws ChanceException Min cannot be greater than Max.
+     */
+    public long[] longs(long[] dst, long min, long max) throws ChanceException {
+        if (min > max) {
+            throw new ChanceException("Min cannot be greater than Max.");
+        }
+        random.nextLongs(dst, min, max);
+        return dst;
+    }
+
+    /**
+     * Fill an array with random doubles, with the same distribution as
+     * {@link #getDouble(java.lang.Integer, java.lang.Integer, int)}.
+     * <pre>
+     * double[] values = chance.doubles(new double[1000], -10, 100, 2);
+     * </pre>
+     *
+     * @param dst Array to fill
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @param fixed Specify a fixed precision
+     * @return The same array
+     * @throws ChanceException
+     */
+    public double[] doubles(double[] dst, Integer min, Integer max, int fixed)
+            throws ChanceException {
+        final int localFixed = scale(fixed);
+        final int localMax = Integer.MAX_VALUE / localFixed;
+        checkFixedRange(min, max, localMax);
+        final int low = (min == null ? -localMax : min) * localFixed;
+        final int high = (max == null ? localMax : max) * localFixed;
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = toDouble(random.nextInt(low, high), localFixed, fixed);
+        }
+        return dst;
+    }
+
+    /**
+     * Fill an array with random booleans.
+     * <pre>
+     * boolean[] values = chance.bools(new boolean[1000], 30);
+     * </pre>
+     *
+     * @param dst Array to fill
+     * @param likelihood Likelihood, from 0 to 100, of each value being true
+     * @return The same array
+     * @throws ChanceException if the likelihood is out of bounds
+     */
+    public boolean[] bools(boolean[] dst, double likelihood) throws ChanceException {
+        if (likelihood < 0 || likelihood > 100) {
+            throw new ChanceException("Likelihood accepts values from 0 to 100.");
+        }
+        if (likelihood == 50) {
+            // one bit per value
+            for (int i = 0; i < dst.length; i += Long.SIZE) {
+                long bits = random.nextLong();
+                int end = Math.min(dst.length, i + Long.SIZE);
+                for (int j = i; j < end; j++) {
+                    dst[j] = (bits & 1) != 0;
+                    bits >>>= 1;
+                }
+            }
+            return dst;
+        }
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = random.nextDouble() * 100 < likelihood;
+        }
+        return dst;
+    }
+
+    /**
+     * Set the first length bits of a BitSet to random values.
+     * <pre>
+     * BitSet values = chance.bools(new BitSet(), 1000, 50);
+     * </pre>
+     *
+     * @param dst BitSet to change
+     * @param length Number of bits, starting from zero
+     * @param likelihood Likelihood, from 0 to 100, of each bit being set
+     * @return The same BitSet
+     * @throws ChanceException if the likelihood or the length are out of
+     * bounds
+     */
+    public BitSet bools(BitSet dst, int length, double likelihood) throws ChanceException {
+        if (likelihood < 0 || likelihood > 100) {
+            throw new ChanceException("Likelihood accepts values from 0 to 100.");
+        }
+        if (length < 0) {
+            throw new ChanceException("Length cannot be less than zero.");
+        }
+        dst.clear(0, length);
+        if (likelihood == 50) {
+            for (int i = 0; i < length; i += Long.SIZE) {
+                long bits = random.nextLong();
+                int end = Math.min(length, i + Long.SIZE);
+                for (int j = i; j < end; j++) {
+                    if ((bits & 1) != 0) {
+                        dst.set(j);
+                    }
+                    bits >>>= 1;
+                }
+            }
+            return dst;
+        }
+        for (int i = 0; i < length; i++) {
+            if (random.nextDouble() * 100 < likelihood) {
+                dst.set(i);
+            }
+        }
+        return dst;
+    }
+
     /**
      * Return an array of random character.
      *
@@ -529,14 +1079,9 @@ public class Chance {
      * @throws ChanceException
      */
     private char[] characters(TextOptions options, int length) throws ChanceException {
-        Character character = new Character(options);
-        final String text = character.getTextPool();
-        String result = "";
-        for (int i = 0; i < length; i++) {
-            int natural = natural(text.length() - 1);
-            result += text.charAt(natural);
-        }
-        return result.toCharArray();
+        char[] result = new char[length];
+        options.compile().fill(random, result);
+        return result;
     }
 
     /**
@@ -561,8 +1106,22 @@ public class Chance {
      * @throws ChanceException
      */
     public char character(TextOptions options) throws ChanceException {
-        char[] characters = characters(options, 1);
-        return characters[0];
+        return options.compile().next(random);
+    }
+
+    /**
+     * Return a random character from a compiled pool.
+     * <pre>
+     * CharPool pool = options.compile();
+     * chance.character(pool);
+     * => 'k'
+     * </pre>
+     *
+     * @param pool Compiled pool, see {@link TextOptions#compile()}
+     * @return a single random character
+     */
+    public char character(CharPool pool) {
+        return pool.next(random);
     }
 
     /**
@@ -594,23 +1153,94 @@ public class Chance {
     }
 
     /**
-     * Return a random string with length between {@value #MIN_CHARS_FOR_STRING}
-     * and {@value #MAX_CHARS_FOR_STRING}.
+     * Append a random string to the given buffer, without creating an
+     * intermediate String.
      * <pre>
-     * TextOptions options = new TextOptions();
-     * options.setCasing(TextOptions.Casing.lower);
-     * options.setPoolType(TextOptions.PoolType.alpha);
-     * chance.string(options);
-     * => "qwertyui"
-     * options.setPoolType(TextOptions.PoolType.numeric);
-     * chance.string(options);
-     * => "203674584214"
+     * StringBuilder builder = new StringBuilder("id-");
+     * chance.string(options, 8, builder);
+     * => "id-x3Fq0ZbA"
      * </pre>
      *
+     * @param <A> Type of the buffer
      * @param options Can specify a character pool, only alpha, only symbols,
      * and casing (lower or upper)
-     * @return A string of random length
-     * @throws ChanceException
+     * @param length Specify a length
+     * @param out Buffer receiving the characters
+     * @return The same buffer
+     * @throws ChanceException Length cannot be less or equal than zero, or the
+     * buffer failed to append
+     */
+    public <A extends Appendable> A string(TextOptions options, int length, A out)
+            throws ChanceException {
+        return string(options.compile(), length, out);
+    }
+
+    /**
+     * Return a random string from a compiled pool.
+     * <pre>
+     * CharPool pool = options.compile();
+     * chance.string(pool, 10);
+     * => "fuklnbvsas"
+     * </pre>
+     *
+     * @param pool Compiled pool, see {@link TextOptions#compile()}
+     * @param length Specify a length
+     * @return A string of especified length
+     * @throws ChanceException Length cannot be less or equal than zero
+     */
+    public String string(CharPool pool, int length) throws ChanceException {
+        if (length <= 0) {
+            throw new ChanceException("Length cannot be less or equal than zero.");
+        }
+        char[] characters = new char[length];
+        pool.fill(random, characters);
+        return String.valueOf(characters);
+    }
+
+    /**
+     * Append a random string from a compiled pool to the given buffer.
+     *
+     * @param <A> Type of the buffer
+     * @param pool Compiled pool, see {@link TextOptions#compile()}
+     * @param length Specify a length
+     * @param out Buffer receiving the characters
+     * @return The same buffer
+     * @throws ChanceException Length cannot be less or equal than zero, or the
+     * buffer failed to append
+     */
+    public <A extends Appendable> A string(CharPool pool, int length, A out)
+            throws ChanceException {
+        if (length <= 0) {
+            throw new ChanceException("Length cannot be less or equal than zero.");
+        }
+        try {
+            for (int i = 0; i < length; i++) {
+                out.append(pool.next(random));
+            }
+        } catch (IOException e) {
+            throw new ChanceException("Could not append the string.", e);
+        }
+        return out;
+    }
+
+    /**
+     * Return a random string with length between {@value #MIN_CHARS_FOR_STRING}
+     * and {@value #MAX_CHARS_FOR_STRING}.
+     * <pre>
+     * TextOptions options = new TextOptions();
+     * options.setCasing(TextOptions.Casing.lower);
+     * options.setPoolType(TextOptions.PoolType.alpha);
+     * chance.string(options);
+     * => "qwertyui"
+     * options.setPoolType(TextOptions.PoolType.numeric);
+     * chance.string(options);
+     * => "203674584214"
+     * </pre>
+     *
+     * @param options Can specify a character pool, only alpha, only symbols,
+     * and casing (lower or upper)
+     * @return A string of random length
+     * @throws ChanceException
      */
     public String string(TextOptions options) throws ChanceException {
         int length = natural(MIN_CHARS_FOR_STRING, MAX_CHARS_FOR_STRING);
@@ -822,26 +1452,7 @@ public class Chance {
      * @return A random CPF
      */
     public long cpf() {
-        int[] firstNineDigits = new int[9];
-        StringBuilder numberRepresentation = new StringBuilder();
-        try {
-            int length = firstNineDigits.length;
-            for (int i = 0; i < length; i++) {
-                firstNineDigits[i] = natural(9);
-            }
-
-            int d1 = Cpf.calculateVerifyingDigitOne(firstNineDigits);
-            int d2 = Cpf.calculateVerifyingDigitTwo(firstNineDigits, d1);
-
-            for (int i = 0; i < length; i++) {
-                numberRepresentation.append(firstNineDigits[i]);
-            }
-            numberRepresentation.append(d1);
-            numberRepresentation.append(d2);
-        } catch (ChanceException e) {
-            // it's never throw
-        }
-        return Long.parseLong(numberRepresentation.toString());
+        return cpfOf(random.nextInt(0, Cpf.MAX_BASE));
     }
 
     /**
@@ -858,16 +1469,7 @@ public class Chance {
      * @return A random valid CPF
      */
     public String cpfAsText(CpfOptions options) {
-        long cpf = cpf();
-        String unmasked = new DecimalFormat("00000000000").format(cpf);
-        switch (options) {
-            case masked:
-                return Cpf.format(unmasked);
-            case unmasked:
-                return unmasked;
-            default:
-                throw new AssertionError();
-        }
+        return Cpf.toText(cpf(), options);
     }
 
     /**
@@ -893,27 +1495,7 @@ public class Chance {
      * @return A random CNPJ
      */
     public long cnpj() {
-        int[] firstEightDigits = new int[8];
-        StringBuilder numberRepresentation = new StringBuilder();
-        try {
-            int length = firstEightDigits.length;
-            for (int i = 0; i < length; i++) {
-                firstEightDigits[i] = natural(9);
-            }
-
-            int d1 = Cnpj.calculateVerifyingDigitOne(firstEightDigits);
-            int d2 = Cnpj.calculateVerifyingDigitTwo(firstEightDigits, d1);
-
-            for (int i = 0; i < length; i++) {
-                numberRepresentation.append(firstEightDigits[i]);
-            }
-            numberRepresentation.append("0001");
-            numberRepresentation.append(d1);
-            numberRepresentation.append(d2);
-        } catch (ChanceException e) {
-            // it's never throw
-        }
-        return Long.parseLong(numberRepresentation.toString());
+        return cnpjOf(random.nextInt(0, Cnpj.MAX_BASE));
     }
 
     /**
@@ -930,16 +1512,7 @@ public class Chance {
      * @return A random CNPJ
      */
     public String cnpjAsText(CnpjOptions options) {
-        long cnpj = cnpj();
-        String unmasked = new DecimalFormat("00000000000000").format(cnpj);
-        switch (options) {
-            case unmasked:
-                return unmasked;
-            case masked:
-                return Cnpj.format(unmasked);
-            default:
-                throw new AssertionError();
-        }
+        return Cnpj.toText(cnpj(), options);
     }
 
     /**
@@ -1058,14 +1631,14 @@ public class Chance {
      * @return A random first name
      */
     public String firstName(Gender gender, Nationality nationality) {
-        String[] names = FirstName.getFirstNameList(gender, nationality);
+        NameList names = FirstName.getFirstNames(gender, nationality);
         int natural = 0;
         try {
-            natural = natural(names.length - 1);
+            natural = natural(names.size() - 1);
         } catch (ChanceException e) {
             // it's never throw
         }
-        return names[natural];
+        return names.get(natural);
     }
 
     /**
@@ -1124,14 +1697,14 @@ public class Chance {
      * @return A random last name
      */
     public String lastName(Nationality nationality) {
-        String[] names = LastName.getLastNameList(nationality);
+        NameList names = LastName.getLastNames(nationality);
         int natural = 0;
         try {
-            natural = natural(names.length - 1);
+            natural = natural(names.size() - 1);
         } catch (ChanceException e) {
             // it's never throw
         }
-        return names[natural];
+        return names.get(natural);
     }
 
     /**
@@ -1148,6 +1721,43 @@ public class Chance {
         return lastName(nacionality);
     }
 
+    /**
+     * Generate a random first name, with synthetic Zipf weights: some names
+     * are much more common than others, but which ones is arbitrary, not
+     * taken from real frequencies.
+     * <pre>
+     * chance.weightedFirstName(Gender.Female, Nationality.English);
+     * => "Agnes"
+     * </pre>
+     *
+     * @param gender Either Male or Female
+     * @param nationality A nationality
+     * @return A random first name
+     * @see NameFrequency
+     */
+    public String weightedFirstName(Gender gender, Nationality nationality) {
+        NameList names = FirstName.getFirstNames(gender, nationality);
+        return names.get(NameFrequency.getTable(names).next(random));
+    }
+
+    /**
+     * Generate a random last name, with synthetic Zipf weights: some names
+     * are much more common than others, but which ones is arbitrary, not
+     * taken from real frequencies.
+     * <pre>
+     * chance.weightedLastName(Nationality.Brazilian);
+     * => "Moraes"
+     * </pre>
+     *
+     * @param nationality A nationality
+     * @return A random last name
+     * @see NameFrequency
+     */
+    public String weightedLastName(Nationality nationality) {
+        NameList names = LastName.getLastNames(nationality);
+        return names.get(NameFrequency.getTable(names).next(random));
+    }
+
     /**
      * Generate a random name prefix, specifying a gender.
      * <pre>
@@ -1162,14 +1772,13 @@ public class Chance {
      * @return A random name prefix
      */
     public String namePrefix(Gender gender, PrefixSuffixOptions options) {
-        String[] list = NamePrefix.getNamePrefixList(gender, options);
         int natural = 0;
         try {
-            natural = natural(list.length - 1);
+            natural = natural(NamePrefix.getNamePrefixCount(gender, options) - 1);
         } catch (ChanceException e) {
             // it's never throw
         }
-        return list[natural];
+        return NamePrefix.getNamePrefix(gender, options, natural);
     }
 
     /**
@@ -1220,20 +1829,16 @@ public class Chance {
     public String name(Gender gender, Nationality nationality,
             NameOptions nameOptions, PrefixSuffixOptions psOptions) {
         String name;
-        String first = firstName(gender, nationality);
-        String last = lastName(nationality);
+        boolean weighted = nameOptions.isWeighted();
+        String first = weighted ? weightedFirstName(gender, nationality)
+                : firstName(gender, nationality);
+        String last = weighted ? weightedLastName(nationality) : lastName(nationality);
         String middle = " ";
         if (nameOptions.isMiddle()) {
-            middle = " " + firstName(gender, nationality) + " ";
+            middle = " " + (weighted ? weightedFirstName(gender, nationality)
+                    : firstName(gender, nationality)) + " ";
         } else if (nameOptions.isMiddleInitial()) {
-            TextOptions textOptions = new TextOptions();
-            textOptions.setCasing(TextOptions.Casing.upper);
-            textOptions.setPoolType(TextOptions.PoolType.alpha);
-            try {
-                middle = " " + String.valueOf(character(textOptions)) + ". ";
-            } catch (ChanceException e) {
-                // it's never throw
-            }
+            middle = " " + String.valueOf(character(UPPER_ALPHA)) + ". ";
         }
 
         name = first + middle + last;
@@ -1364,16 +1969,11 @@ public class Chance {
      * @throws ChanceException
      */
     public String ssn(SsnOptions options) throws ChanceException {
-        TextOptions textOptions = new TextOptions();
-        textOptions.setPoolType(TextOptions.PoolType.numeric);
         String ssn;
         switch (options.getLength()) {
             case four:
-                ssn = string(textOptions, 4);
-                break;
             case nine:
-                ssn = string(textOptions, 3) + string(textOptions, 2)
-                        + string(textOptions, 4);
+                ssn = string(NUMERIC, options.getLength().getLength());
                 break;
             default:
                 throw new AssertionError();
@@ -1478,10 +2078,9 @@ public class Chance {
      * @return A random birthday
      * @throws ChanceException
      */
-    private DateTime birthdayDateTime(AgeOptions options) throws ChanceException {
+    private long birthdayMillis(AgeOptions options) throws ChanceException {
         int age = age(options);
-        int currentYear = DateTime.now().getYear();
-        return dateTimeTimestamp(currentYear - age);
+        return timestampMillis(currentYear() - age);
     }
 
     /**
@@ -1496,7 +2095,7 @@ public class Chance {
      * @throws ChanceException
      */
     public Date birthday(AgeOptions options) throws ChanceException {
-        return birthdayDateTime(options).toDate();
+        return new Date(birthdayMillis(options));
     }
 
     /**
@@ -1528,8 +2127,25 @@ public class Chance {
      */
     public String birthdayAsText(AgeOptions options, String pattern, Locale locale)
             throws ChanceException {
-        DateTime birthday = birthdayDateTime(options);
-        return birthday.toString(pattern, locale);
+        return birthdayAsText(options, DateFormatSpec.of(pattern, locale));
+    }
+
+    /**
+     * Generate a random birthday, with a precompiled format.
+     * <pre>
+     * DateFormatSpec format = DateFormatSpec.of("dd/MM/yyyy", new Locale("pt", "BR"));
+     * chance.birthdayAsText(AgeOptions.adult, format);
+     * => 06/11/1987
+     * </pre>
+     *
+     * @param options Age options
+     * @param format Format of the date
+     * @return A random birthday
+     * @throws ChanceException
+     */
+    public String birthdayAsText(AgeOptions options, DateFormatSpec format)
+            throws ChanceException {
+        return format.format(birthdayMillis(options), clockZone);
     }
 
     /**
@@ -1742,24 +2358,30 @@ public class Chance {
      * @throws ChanceException
      */
     public int year() throws ChanceException {
-        int currentYear = DateTime.now().getYear();
+        int currentYear = currentYear();
         return year(currentYear, currentYear + 100);
     }
 
     /**
-     * Generate a random datetime, between min and max.
+     * @return The current year, in the zone of the clock
+     */
+    private int currentYear() {
+        return EpochTime.yearOf(EpochTime.epochDay(clock.millis(), clockZone));
+    }
+
+    /**
+     * Generate a random instant, between min and max.
      *
      * @param min Minimum value to choose from
      * @param max Maximum value to choose from
-     * @return A random datetime
+     * @return A random instant, in epoch milliseconds
      * @throws ChanceException
      */
-    private DateTime dateTime(long min, long max) throws ChanceException {
+    private long positiveEpochMillis(long min, long max) throws ChanceException {
         if (min < 1) {
             throw new ChanceException("Min value must be greater than zero.");
         }
-        long value = getLong(min, max);
-        return new DateTime(value);
+        return getLong(min, max);
     }
 
     /**
@@ -1771,7 +2393,7 @@ public class Chance {
      * @throws ChanceException
      */
     private Date date(long min, long max) throws ChanceException {
-        return dateTime(min, max).toDate();
+        return new Date(positiveEpochMillis(min, max));
     }
 
     /**
@@ -1805,7 +2427,7 @@ public class Chance {
      * @see #timestamp()
      */
     public Date date() throws ChanceException {
-        return date(1, DateTime.now().getMillis() * 10);
+        return new Date(epochMillis());
     }
 
     /**
@@ -1817,20 +2439,18 @@ public class Chance {
      * @return A random date with time
      * @throws ChanceException
      */
-    private DateTime dateTime(int year, int hour, int minute, int second)
+    private long localMillis(int year, int hour, int minute, int second)
             throws ChanceException {
         int month = month();
-        // https://github.com/JodaOrg/joda-time/issues/22
-        int maximumValue;
-        if (month == DateTimeConstants.FEBRUARY) {
-            maximumValue = 28;
-        } else {
-            MonthDay monthDay = new MonthDay(month, 1);
-            maximumValue = monthDay.dayOfMonth().getMaximumValue();
-        }
-
+        // February was always limited to 28 days, as Joda's MonthDay has no
+        // year, see https://github.com/JodaOrg/joda-time/issues/22
+        int maximumValue = month == 2 ? 28 : EpochTime.lengthOfMonth(year, month);
         int day = natural(1, maximumValue);
-        return new DateTime(year, month, day, hour, minute, second);
+        long local = EpochTime.epochDay(year, month, day) * EpochTime.MILLIS_PER_DAY
+                + hour * EpochTime.MILLIS_PER_HOUR
+                + minute * EpochTime.MILLIS_PER_MINUTE
+                + second * EpochTime.MILLIS_PER_SECOND;
+        return EpochTime.toEpochMillis(local, clockZone);
     }
 
     /**
@@ -1840,8 +2460,8 @@ public class Chance {
      * @return A random date
      * @throws ChanceException
      */
-    private DateTime dateTime(int year) throws ChanceException {
-        return dateTime(year, 0, 0, 0);
+    private long localMillis(int year) throws ChanceException {
+        return localMillis(year, 0, 0, 0);
     }
 
     /**
@@ -1856,7 +2476,7 @@ public class Chance {
      * @throws ChanceException
      */
     public Date date(int year) throws ChanceException {
-        return dateTime(year).toDate();
+        return new Date(localMillis(year));
     }
 
     /**
@@ -1875,8 +2495,27 @@ public class Chance {
      */
     public String dateAsText(Date min, Date max, String pattern, Locale locale)
             throws ChanceException {
-        DateTime dateTime = dateTime(min.getTime(), max.getTime());
-        return dateTime.toString(pattern, locale);
+        return dateAsText(min, max, DateFormatSpec.of(pattern, locale));
+    }
+
+    /**
+     * Generate a random date as text, between min and max, with a
+     * precompiled format.
+     * <pre>
+     * DateFormatSpec format = DateFormatSpec.of("dd/MM/yyyy");
+     * chance.dateAsText(date1, date2, format);
+     * => 17/07/1977
+     * </pre>
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @param format Format of the date
+     * @return A random date
+     * @throws ChanceException
+     */
+    public String dateAsText(Date min, Date max, DateFormatSpec format)
+            throws ChanceException {
+        return format.format(positiveEpochMillis(min.getTime(), max.getTime()), clockZone);
     }
 
     /**
@@ -1912,8 +2551,25 @@ public class Chance {
      */
     public String dateAsText(int year, String pattern, Locale locale)
             throws ChanceException {
-        DateTime dateTime = dateTime(year);
-        return dateTime.toString(pattern, locale);
+        return dateAsText(year, DateFormatSpec.of(pattern, locale));
+    }
+
+    /**
+     * Generate a random date, limited to a year, with a precompiled format.
+     * <pre>
+     * DateFormatSpec format = DateFormatSpec.of("dd/MM/yyyy");
+     * chance.dateAsText(1994, format);
+     * => 19/10/1994
+     * </pre>
+     *
+     * @param year Year of the date
+     * @param format Format of the date
+     * @return A random date
+     * @throws ChanceException
+     */
+    public String dateAsText(int year, DateFormatSpec format)
+            throws ChanceException {
+        return format.format(localMillis(year), clockZone);
     }
 
     /**
@@ -1940,8 +2596,8 @@ public class Chance {
      * @return A random date with time
      * @throws ChanceException
      */
-    private DateTime dateTimeTimestamp(int year) throws ChanceException {
-        return dateTime(year, hour(), minute(), second());
+    private long timestampMillis(int year) throws ChanceException {
+        return localMillis(year, hour(), minute(), second());
     }
 
     /**
@@ -1956,7 +2612,7 @@ public class Chance {
      * @throws ChanceException
      */
     public Date timestamp(int year) throws ChanceException {
-        return dateTimeTimestamp(year).toDate();
+        return new Date(timestampMillis(year));
     }
 
     /**
@@ -1989,8 +2645,26 @@ public class Chance {
      */
     public String timestampAsText(int year, String pattern, Locale locale)
             throws ChanceException {
-        DateTime timestamp = dateTimeTimestamp(year);
-        return timestamp.toString(pattern, locale);
+        return timestampAsText(year, DateFormatSpec.of(pattern, locale));
+    }
+
+    /**
+     * Generate a random date with random hour and minute, with a precompiled
+     * format.
+     * <pre>
+     * DateFormatSpec format = DateFormatSpec.of("dd/MM/yyyy HH:mm:ss");
+     * chance.timestampAsText(1994, format);
+     * => 06/11/1994 22:27:26
+     * </pre>
+     *
+     * @param year Year of the timestamp
+     * @param format Format of the date
+     * @return A random date with time
+     * @throws ChanceException
+     */
+    public String timestampAsText(int year, DateFormatSpec format)
+            throws ChanceException {
+        return format.format(timestampMillis(year), clockZone);
     }
 
     /**
@@ -2009,4 +2683,637 @@ public class Chance {
             throws ChanceException {
         return timestampAsText(year, pattern, Locale.getDefault());
     }
+
+    /**
+     * Generate a random instant, as milliseconds since the epoch, between
+     * min and max. Nothing is allocated.
+     * <pre>
+     * chance.epochMillis(0, System.currentTimeMillis());
+     * => 1142270705431
+     * </pre>
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return A random instant, in epoch milliseconds
+     * @throws ChanceException
+     */
+    public long epochMillis(long min, long max) throws ChanceException {
+        return getLong(min, max);
+    }
+
+    /**
+     * Generate a random instant, as milliseconds since the epoch, in the
+     * same range as {@link #date()}.
+     * <pre>
+     * chance.epochMillis();
+     * => 11184311485032
+     * </pre>
+     *
+     * @return A random instant, in epoch milliseconds
+     */
+    public long epochMillis() {
+        long max = Math.max(1, clock.millis()) * 10;
+        long millis = 0;
+        try {
+            millis = positiveEpochMillis(1, max);
+        } catch (ChanceException e) {
+            // it's never throw
+        }
+        return millis;
+    }
+
+    /**
+     * Generate a random instant, as milliseconds since the epoch, in a year
+     * of UTC.
+     * <pre>
+     * chance.epochMillis(1994);
+     * => 774460706431
+     * </pre>
+     *
+     * @param year Year of the instant
+     * @return A random instant, in epoch milliseconds
+     */
+    public long epochMillis(int year) {
+        long start = EpochTime.epochDay(year, 1, 1) * EpochTime.MILLIS_PER_DAY;
+        long end = EpochTime.epochDay(year + 1, 1, 1) * EpochTime.MILLIS_PER_DAY;
+        return random.nextLong(start, end - 1);
+    }
+
+    /**
+     * Generate a random day of a year, as days since 1970-01-01.
+     * <pre>
+     * chance.epochDay(1994);
+     * => 8963
+     * </pre>
+     *
+     * @param year Year of the day
+     * @return A random epoch day
+     */
+    public long epochDay(int year) {
+        long start = EpochTime.epochDay(year, 1, 1);
+        long end = EpochTime.epochDay(year + 1, 1, 1);
+        return random.nextLong(start, end - 1);
+    }
+
+    /**
+     * Generate a random date of a year, leap days included.
+     * <pre>
+     * chance.localDate(1994);
+     * => 1994-07-17
+     * </pre>
+     *
+     * @param year Year of the date
+     * @return A random date
+     */
+    public LocalDate localDate(int year) {
+        return LocalDate.ofEpochDay(epochDay(year));
+    }
+
+    /**
+     * Generate a random date, between min and max, both included.
+     * <pre>
+     * chance.localDate(LocalDate.of(1980, 5, 10), LocalDate.of(2016, 12, 12));
+     * => 1994-07-17
+     * </pre>
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return A random date
+     * @throws ChanceException
+     */
+    public LocalDate localDate(LocalDate min, LocalDate max) throws ChanceException {
+        if (min == null || max == null) {
+            throw new ChanceException("Min/max cannot be null.");
+        }
+        return LocalDate.ofEpochDay(getLong(min.toEpochDay(), max.toEpochDay()));
+    }
+
+    /**
+     * Generate a random date, within the current year and 100 years from now.
+     * <pre>
+     * chance.localDate();
+     * => 2071-03-02
+     * </pre>
+     *
+     * @return A random date
+     * @see #year()
+     */
+    public LocalDate localDate() {
+        int currentYear = currentYear();
+        return localDate(random.nextInt(currentYear, currentYear + 100));
+    }
+
+    /**
+     * Generate a random instant, in the same range as {@link #date()}.
+     * <pre>
+     * chance.instant();
+     * => 2324-05-31T13:38:05.032Z
+     * </pre>
+     *
+     * @return A random instant
+     */
+    public Instant instant() {
+        return Instant.ofEpochMilli(epochMillis());
+    }
+
+    /**
+     * Generate a random instant, with millisecond precision, between min and
+     * max.
+     * <pre>
+     * chance.instant(Instant.EPOCH, Instant.now());
+     * => 2006-03-13T17:25:05.431Z
+     * </pre>
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return A random instant
+     * @throws ChanceException
+     */
+    public Instant instant(Instant min, Instant max) throws ChanceException {
+        if (min == null || max == null) {
+            throw new ChanceException("Min/max cannot be null.");
+        }
+        return Instant.ofEpochMilli(getLong(min.toEpochMilli(), max.toEpochMilli()));
+    }
+
+    /**
+     * Generate a random instant in a year of UTC.
+     * <pre>
+     * chance.instant(1994);
+     * => 1994-07-17T15:58:26.431Z
+     * </pre>
+     *
+     * @param year Year of the instant
+     * @return A random instant
+     */
+    public Instant instant(int year) {
+        return Instant.ofEpochMilli(epochMillis(year));
+    }
+
+    /**
+     * Generate a random date and time of a year, at the given offset.
+     * <pre>
+     * chance.offsetDateTime(1994, ZoneOffset.ofHours(-3));
+     * => 1994-07-17T15:58:26.431-03:00
+     * </pre>
+     *
+     * @param year Year of the local date
+     * @param offset Offset from UTC
+     * @return A random date and time
+     */
+    public OffsetDateTime offsetDateTime(int year, ZoneOffset offset) {
+        long local = epochMillis(year);
+        Instant instant = Instant.ofEpochMilli(
+                local - offset.getTotalSeconds() * EpochTime.MILLIS_PER_SECOND);
+        return OffsetDateTime.ofInstant(instant, offset);
+    }
+
+    /**
+     * Generate a random date and time of a year, in UTC.
+     * <pre>
+     * chance.offsetDateTime(1994);
+     * => 1994-07-17T15:58:26.431Z
+     * </pre>
+     *
+     * @param year Year of the date
+     * @return A random date and time
+     */
+    public OffsetDateTime offsetDateTime(int year) {
+        return offsetDateTime(year, ZoneOffset.UTC);
+    }
+
+    /**
+     * Check the rate of a time series and return its mean gap, in
+     * milliseconds.
+     */
+    private static double meanGap(double rate, Arrival arrival) throws ChanceException {
+        if (arrival == null) {
+            throw new ChanceException("Arrival cannot be null.");
+        }
+        // one event per millisecond at most, the resolution of the series
+        final int millisPerSecond = Millisecond.MAX + 1;
+        if (!(rate > 0 && rate <= millisPerSecond)) {
+            throw new ChanceException("Rate must be greater than zero and at most "
+                    + millisPerSecond + " per second.");
+        }
+        return millisPerSecond / rate;
+    }
+
+    /**
+     * Fill an array with a time series: strictly increasing epoch
+     * milliseconds, all after start, with random gaps averaging
+     * {@code rate} events per second. Events that fall in the same
+     * millisecond are pushed to the next one. Nothing else is allocated, and
+     * a long series can be filled in chunks, starting each one at the last
+     * value of the previous.
+     * <pre>
+     * long[] values = chance.timestamps(new long[1000], start, 50, Arrival.poisson);
+     * chance.timestamps(values, values[values.length - 1], 50, Arrival.poisson);
+     * </pre>
+     *
+     * @param dst Array to fill
+     * @param start Epoch milliseconds before the first event
+     * @param rate Mean events per second, at most 1000
+     * @param arrival Distribution of the gaps
+     * @return The same array
+     * @throws ChanceException if the rate is out of bounds or arrival is null
+     */
+    public long[] timestamps(long[] dst, long start, double rate, Arrival arrival)
+            throws ChanceException {
+        RandomSpliterators.Timestamps series = new RandomSpliterators.Timestamps(
+                random, dst.length, start, meanGap(rate, arrival), arrival);
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = series.next();
+        }
+        return dst;
+    }
+
+    /**
+     * Return a time series as an ordered stream of strictly increasing epoch
+     * milliseconds, in constant memory.
+     * <pre>
+     * chance.timestamps(3, 0, 10, Arrival.poisson).toArray();
+     * => [24, 151, 168]
+     * </pre>
+     *
+     * @param streamSize Number of values
+     * @param start Epoch milliseconds before the first event
+     * @param rate Mean events per second, at most 1000
+     * @param arrival Distribution of the gaps
+     * @return A stream of timestamps
+     * @throws ChanceException Size less than zero, rate out of bounds or
+     * arrival null.
+     * @see #timestamps(long[], long, double, br.com.fidias.chance4j.time.Arrival)
+     */
+    public LongStream timestamps(long streamSize, long start, double rate, Arrival arrival)
+            throws ChanceException {
+        checkStreamSize(streamSize);
+        return StreamSupport.longStream(new RandomSpliterators.Timestamps(
+                split().random, streamSize, start, meanGap(rate, arrival), arrival), false);
+    }
+
+    /**
+     * Return an effectively unlimited time series.
+     * <pre>
+     * chance.timestamps(System.currentTimeMillis(), 200, Arrival.bursty)
+     *         .limit(1000000).forEach(ingest);
+     * </pre>
+     *
+     * @param start Epoch milliseconds before the first event
+     * @param rate Mean events per second, at most 1000
+     * @param arrival Distribution of the gaps
+     * @return A stream of timestamps
+     * @throws ChanceException Rate out of bounds or arrival null.
+     */
+    public LongStream timestamps(long start, double rate, Arrival arrival)
+            throws ChanceException {
+        return timestamps(Long.MAX_VALUE, start, rate, arrival);
+    }
+
+    private static void checkStreamSize(long streamSize) throws ChanceException {
+        if (streamSize < 0) {
+            throw new ChanceException("Size cannot be less than zero.");
+        }
+    }
+
+    /**
+     * Return a stream of random integers between min and max. Parallel
+     * streams give each split its own engine, see {@link #split()}.
+     * <pre>
+     * chance.ints(1000, 1, 6).sum();
+     * => 3512
+     * </pre>
+     *
+     * @param streamSize Number of values
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return A stream of random integers
+     * @throws ChanceException Min cannot be greater than Max, size cannot be
+     * less than zero.
+     */
+    public IntStream ints(long streamSize, int min, int max) throws ChanceException {
+        checkStreamSize(streamSize);
+        if (min > max) {
+            throw new ChanceException("Min cannot be greater than Max.");
+        }
+        return StreamSupport.intStream(
+                new RandomSpliterators.Ints(split(), 0, streamSize, min, max), false);
+    }
+
+    /**
+     * Return an effectively unlimited stream of random integers between min
+     * and max.
+     * <pre>
+     * chance.ints(1, 6).limit(3).toArray();
+     * => [4, 1, 6]
+     * </pre>
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return A stream of random integers
+     * @throws ChanceException Min cannot be greater than Max.
+     */
+    public IntStream ints(int min, int max) throws ChanceException {
+        return ints(Long.MAX_VALUE, min, max);
+    }
+
+    /**
+     * Return a stream of random longs between min and max.
+     * <pre>
+     * chance.longs(1000, 0, 100).max();
+     * => 100
+     * </pre>
+     *
+     * @param streamSize Number of values
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return A stream of random longs
+     * @throws ChanceException Min cannot be greater than Max, size cannot be
+     * less than zero.
+     */
+    public LongStream longs(long streamSize, long min, long max) throws ChanceException {
+        checkStreamSize(streamSize);
+        if (min > max) {
+            throw new ChanceException("Min cannot be greater than Max.");
+        }
+        return StreamSupport.longStream(
+                new RandomSpliterators.Longs(split(), 0, streamSize, min, max), false);
+    }
+
+    /**
+     * Return an effectively unlimited stream of random longs between min and
+     * max.
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return A stream of random longs
+     * @throws ChanceException Min cannot be greater than Max.
+     */
+    public LongStream longs(long min, long max) throws ChanceException {
+        return longs(Long.MAX_VALUE, min, max);
+    }
+
+    /**
+     * Return a stream of random doubles, with the same distribution as
+     * {@link #getDouble(java.lang.Integer, java.lang.Integer, int)}.
+     * <pre>
+     * chance.doubles(1000, -10, 100, 2).average();
+     * => 45.12
+     * </pre>
+     *
+     * @param streamSize Number of values
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @param fixed Specify a fixed precision
+     * @return A stream of random doubles
+     * @throws ChanceException
+     */
+    public DoubleStream doubles(long streamSize, Integer min, Integer max, int fixed)
+            throws ChanceException {
+        checkStreamSize(streamSize);
+        int localFixed = scale(fixed);
+        checkFixedRange(min, max, Integer.MAX_VALUE / localFixed);
+        return StreamSupport.doubleStream(
+                new RandomSpliterators.Doubles(split(), 0, streamSize, min, max, fixed), false);
+    }
+
+    /**
+     * Return an effectively unlimited stream of random doubles.
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @param fixed Specify a fixed precision
+     * @return A stream of random doubles
+     * @throws ChanceException
+     */
+    public DoubleStream doubles(Integer min, Integer max, int fixed) throws ChanceException {
+        return doubles(Long.MAX_VALUE, min, max, fixed);
+    }
+
+    /**
+     * Return a stream of values produced by the generator. Parallel streams
+     * give each split its own Chance, see {@link #split()}. A
+     * {@link ChanceException} thrown by the generator is rethrown as
+     * {@link UncheckedChanceException}.
+     * <pre>
+     * chance.stream(10, Chance::cpfAsText).collect(Collectors.toList());
+     * </pre>
+     *
+     * @param <T> Type of the values
+     * @param streamSize Number of values
+     * @param generator Generator of each value
+     * @return A stream of random values
+     * @throws ChanceException Size cannot be less than zero.
+     */
+    public <T> Stream<T> stream(long streamSize, Generator<T> generator) throws ChanceException {
+        checkStreamSize(streamSize);
+        return StreamSupport.stream(
+                new RandomSpliterators.Values<>(split(), 0, streamSize, generator), false);
+    }
+
+    /**
+     * Return an effectively unlimited stream of values produced by the
+     * generator.
+     * <pre>
+     * chance.stream(Chance::name).limit(3).collect(Collectors.toList());
+     * => ["Paola Mendes", "Jessie Erickson", "Loretta Nannucci"]
+     * </pre>
+     *
+     * @param <T> Type of the values
+     * @param generator Generator of each value
+     * @return A stream of random values
+     */
+    public <T> Stream<T> stream(Generator<T> generator) {
+        return StreamSupport.stream(
+                new RandomSpliterators.Values<>(split(), 0, Long.MAX_VALUE, generator), false);
+    }
+
+    /**
+     * Return a stream of random strings of the given length.
+     *
+     * @param streamSize Number of values
+     * @param options Can specify a character pool, only alpha, only symbols,
+     * and casing (lower or upper)
+     * @param length Length of each string
+     * @return A stream of random strings
+     * @throws ChanceException Size or length out of bounds, or custom pool
+     * not defined.
+     */
+    public Stream<String> strings(long streamSize, TextOptions options, int length)
+            throws ChanceException {
+        if (length <= 0) {
+            throw new ChanceException("Length cannot be less or equal than zero.");
+        }
+        CharPool pool = options.compile();
+        return stream(streamSize, chance -> chance.string(pool, length));
+    }
+
+    /**
+     * Return a stream of random strings with length between
+     * {@value #MIN_CHARS_FOR_STRING} and {@value #MAX_CHARS_FOR_STRING}.
+     * <pre>
+     * chance.strings(1000, new TextOptions()).distinct().count();
+     * => 1000
+     * </pre>
+     *
+     * @param streamSize Number of values
+     * @param options Can specify a character pool, only alpha, only symbols,
+     * and casing (lower or upper)
+     * @return A stream of random strings
+     * @throws ChanceException Size out of bounds, or custom pool not defined.
+     */
+    public Stream<String> strings(long streamSize, TextOptions options) throws ChanceException {
+        CharPool pool = options.compile();
+        return stream(streamSize, chance -> chance.string(pool,
+                chance.natural(MIN_CHARS_FOR_STRING, MAX_CHARS_FOR_STRING)));
+    }
+
+    /**
+     * Return an effectively unlimited stream of random strings.
+     *
+     * @param options Can specify a character pool, only alpha, only symbols,
+     * and casing (lower or upper)
+     * @return A stream of random strings
+     * @throws ChanceException Custom pool not defined.
+     */
+    public Stream<String> strings(TextOptions options) throws ChanceException {
+        return strings(Long.MAX_VALUE, options);
+    }
+
+    /**
+     * Return a stream of random names.
+     * <pre>
+     * NameOptions nameOptions = new NameOptions();
+     * nameOptions.setMiddleInitial(true);
+     * chance.names(3, nameOptions).collect(Collectors.toList());
+     * => ["Lavínia I. Cavalcanti", "Tom W. Erickson", "Adele R. Zani"]
+     * </pre>
+     *
+     * @param streamSize Number of values
+     * @param nameOptions Name Options
+     * @return A stream of random names
+     * @throws ChanceException Size cannot be less than zero.
+     */
+    public Stream<String> names(long streamSize, NameOptions nameOptions)
+            throws ChanceException {
+        return stream(streamSize, chance -> chance.name(nameOptions));
+    }
+
+    /**
+     * Return a stream of random names, without middle name nor prefix.
+     *
+     * @param streamSize Number of values
+     * @return A stream of random names
+     * @throws ChanceException Size cannot be less than zero.
+     */
+    public Stream<String> names(long streamSize) throws ChanceException {
+        return names(streamSize, new NameOptions());
+    }
+
+    /**
+     * Wrap a generator so it never returns the same value twice.
+     * <pre>
+     * UniqueGenerator&lt;String&gt; ssns = chance.unique(Chance::ssn);
+     * ssns.next();
+     * => "867-53-0231"
+     * </pre>
+     *
+     * @param <T> Type of the generated values
+     * @param generator Generator to wrap
+     * @return A generator of unique values
+     * @see UniqueGenerator#defaultKey(java.lang.Object)
+     */
+    public <T> UniqueGenerator<T> unique(Generator<T> generator) {
+        return new UniqueGenerator<>(this, generator);
+    }
+
+    /**
+     * Wrap a generator so it never returns two values with the same key.
+     * <pre>
+     * chance.unique(Chance::cpf, Long::longValue, 100);
+     * </pre>
+     *
+     * @param <T> Type of the generated values
+     * @param generator Generator to wrap
+     * @param key 64-bit key of a value
+     * @param maxAttempts Duplicates in a row before giving up
+     * @return A generator of unique values
+     * @throws ChanceException if maxAttempts is less than one
+     */
+    public <T> UniqueGenerator<T> unique(Generator<T> generator,
+            ToLongFunction<? super T> key, int maxAttempts) throws ChanceException {
+        if (maxAttempts < 1) {
+            throw new ChanceException("Max attempts must be greater than zero.");
+        }
+        return new UniqueGenerator<>(this, generator, key, maxAttempts);
+    }
+
+    /**
+     * Return a generator of unique longs between min and max, remembered in
+     * one bit per possible value.
+     * <pre>
+     * UniqueLongGenerator ids = chance.unique(1, 1000000);
+     * ids.next();
+     * => 529613
+     * </pre>
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return A generator of unique longs
+     * @throws ChanceException if the range is empty or too wide
+     */
+    public UniqueLongGenerator unique(long min, long max) throws ChanceException {
+        if (min > max) {
+            throw new ChanceException("Min cannot be greater than Max.");
+        }
+        final long size = max - min + 1;
+        if (size <= 0 || size > MAX_UNIQUE_RANGE) {
+            throw new ChanceException(String.format(
+                    "Range should have, at most, %d values.", MAX_UNIQUE_RANGE));
+        }
+        return new UniqueLongGenerator(this, size, index -> min + index);
+    }
+
+    /**
+     * Return a generator of unique valid Brazilian CPFs.
+     * <pre>
+     * UniqueLongGenerator cpfs = chance.uniqueCpf();
+     * Cpf.toText(cpfs.next(), CpfOptions.masked);
+     * => "506.385.808-20"
+     * </pre>
+     *
+     * @return A generator of unique CPFs
+     */
+    public UniqueLongGenerator uniqueCpf() {
+        return new UniqueLongGenerator(this, Cpf.MAX_BASE + 1L,
+                base -> cpfOf((int) base));
+    }
+
+    /**
+     * Return a generator of unique valid Brazilian CNPJs.
+     *
+     * @return A generator of unique CNPJs
+     */
+    public UniqueLongGenerator uniqueCnpj() {
+        return new UniqueLongGenerator(this, Cnpj.MAX_BASE + 1L,
+                base -> cnpjOf((int) base));
+    }
+
+    private static long cpfOf(int base) {
+        try {
+            return Cpf.fromBase(base);
+        } catch (ChanceException e) {
+            // it's never throw, the base is always in range
+            throw new AssertionError(e);
+        }
+    }
+
+    private static long cnpjOf(int base) {
+        try {
+            return Cnpj.fromBase(base);
+        } catch (ChanceException e) {
+            // it's never throw, the base is always in range
+            throw new AssertionError(e);
+        }
+    }
 }
@@ -27,8 +27,14 @@ package br.com.fidias.chance4j;
  * @author atila
  */
 public class ChanceException extends Exception {
+
+    private static final long serialVersionUID = 1L;
     
     public ChanceException(String message) {
         super(message);
     }
+
+    public ChanceException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
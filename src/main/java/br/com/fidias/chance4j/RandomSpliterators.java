@@ -0,0 +1,321 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j;
+
+import br.com.fidias.chance4j.random.RandomEngine;
+import br.com.fidias.chance4j.time.Arrival;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterators behind the streams of {@link Chance}. Every split gets its own
+ * Chance, derived with {@link Chance#split()}, so parallel streams do not
+ * share any random state.
+ *
+ * @author atila
+ */
+final class RandomSpliterators {
+
+    private static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED
+            | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+    private RandomSpliterators() {
+    }
+
+    private abstract static class Base {
+
+        protected final Chance chance;
+        protected long index;
+        protected final long fence;
+
+        Base(Chance chance, long index, long fence) {
+            this.chance = chance;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        /**
+         * @return The middle of the remaining range, or -1 if too small to
+         * split
+         */
+        protected long splitPoint() {
+            long middle = (index + fence) >>> 1;
+            return middle <= index ? -1 : middle;
+        }
+
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+
+    static final class Ints extends Base implements Spliterator.OfInt {
+
+        private final int min, max;
+
+        Ints(Chance chance, long index, long fence, int min, int max) {
+            super(chance, index, fence);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public Ints trySplit() {
+            long middle = splitPoint();
+            if (middle < 0) {
+                return null;
+            }
+            Ints prefix = new Ints(chance.split(), index, middle, min, max);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(chance.engine().nextInt(min, max));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            final long end = fence;
+            final int localMin = min, localMax = max;
+            final RandomEngine engine = chance.engine();
+            for (long i = index; i < end; i++) {
+                action.accept(engine.nextInt(localMin, localMax));
+            }
+            index = end;
+        }
+    }
+
+    static final class Longs extends Base implements Spliterator.OfLong {
+
+        private final long min, max;
+
+        Longs(Chance chance, long index, long fence, long min, long max) {
+            super(chance, index, fence);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public Longs trySplit() {
+            long middle = splitPoint();
+            if (middle < 0) {
+                return null;
+            }
+            Longs prefix = new Longs(chance.split(), index, middle, min, max);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(chance.engine().nextLong(min, max));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            final long end = fence;
+            final long localMin = min, localMax = max;
+            final RandomEngine engine = chance.engine();
+            for (long i = index; i < end; i++) {
+                action.accept(engine.nextLong(localMin, localMax));
+            }
+            index = end;
+        }
+    }
+
+    static final class Doubles extends Base implements Spliterator.OfDouble {
+
+        private final Integer min, max;
+        private final int fixed;
+
+        Doubles(Chance chance, long index, long fence, Integer min, Integer max, int fixed) {
+            super(chance, index, fence);
+            this.min = min;
+            this.max = max;
+            this.fixed = fixed;
+        }
+
+        @Override
+        public Doubles trySplit() {
+            long middle = splitPoint();
+            if (middle < 0) {
+                return null;
+            }
+            Doubles prefix = new Doubles(chance.split(), index, middle, min, max, fixed);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            try {
+                action.accept(chance.getDouble(min, max, fixed));
+            } catch (ChanceException e) {
+                throw new UncheckedChanceException(e);
+            }
+            index++;
+            return true;
+        }
+    }
+
+    static final class Values<T> extends Base implements Spliterator<T> {
+
+        private final Generator<T> generator;
+
+        Values(Chance chance, long index, long fence, Generator<T> generator) {
+            super(chance, index, fence);
+            this.generator = generator;
+        }
+
+        @Override
+        public Values<T> trySplit() {
+            long middle = splitPoint();
+            if (middle < 0) {
+                return null;
+            }
+            Values<T> prefix = new Values<>(chance.split(), index, middle, generator);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) {
+                return false;
+            }
+            try {
+                action.accept(generator.generate(chance));
+            } catch (ChanceException e) {
+                throw new UncheckedChanceException(e);
+            }
+            index++;
+            return true;
+        }
+
+        @Override
+        public int characteristics() {
+            // generators may return null
+            return super.characteristics() & ~Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Strictly increasing epoch milliseconds. Each value depends on the
+     * previous one, so the series cannot be split.
+     */
+    static final class Timestamps implements Spliterator.OfLong {
+
+        private final RandomEngine engine;
+        private final double mean;
+        private final Arrival arrival;
+        private long remaining;
+        // continuous time of the last event, and the millisecond emitted
+        private double time;
+        private long last;
+
+        Timestamps(RandomEngine engine, long size, long start, double mean, Arrival arrival) {
+            this.engine = engine;
+            this.remaining = size;
+            this.time = start;
+            this.last = start;
+            this.mean = mean;
+            this.arrival = arrival;
+        }
+
+        /**
+         * @return The next timestamp, after the last one
+         */
+        long next() {
+            time += arrival.gap(engine, mean);
+            long millis = (long) Math.floor(time);
+            if (millis <= last) {
+                // more than one event in a millisecond, push it to the next
+                millis = last + 1;
+                time = millis;
+            }
+            last = millis;
+            return millis;
+        }
+
+        @Override
+        public OfLong trySplit() {
+            return null;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            remaining--;
+            action.accept(next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            for (; remaining > 0; remaining--) {
+                action.accept(next());
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS | Spliterator.ORDERED | Spliterator.SORTED
+                    | Spliterator.DISTINCT;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            // natural order
+            return null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.jfr;
+
+/**
+ * Emits chance4j events to Java Flight Recorder, so its work shows up in JMC
+ * next to the events of the application:
+ * <ul>
+ * <li>{@code chance4j.Batch}: rows generated by a
+ * {@link br.com.fidias.chance4j.record.RecordTemplate} in a single call</li>
+ * <li>{@code chance4j.DictionaryLoad}: a name dictionary read from its
+ * resource</li>
+ * <li>{@code chance4j.UniqueSetGrowth}: the set of seen values of a unique
+ * generator resized</li>
+ * </ul>
+ * Events are enabled by default, so any recording gets them, for example
+ * one started with {@code -XX:StartFlightRecording} or from JMC. On JVMs
+ * without the {@code jdk.jfr} module, and while no recording ever started,
+ * every method returns right away and no event class is loaded.
+ *
+ * The events are compiled for Java 11, into the multi-release part of the
+ * jar, and only when chance4j is built on JDK 11 or later. On Java 8, or
+ * with a jar built there, they are simply not available.
+ *
+ * Called by chance4j itself; the begin methods return an opaque event, or
+ * null when the event is not recorded.
+ *
+ * @author atila
+ */
+public final class ChanceEvents {
+
+    private static final EventRecorder RECORDER = recorder();
+    private static final boolean AVAILABLE = RECORDER != null;
+
+    private ChanceEvents() {
+    }
+
+    /**
+     * @return The Flight Recorder implementation, or null if this JVM has
+     * no {@code jdk.jfr}, it is older than Java 11, or the implementation
+     * was not built
+     */
+    private static EventRecorder recorder() {
+        ClassLoader loader = ChanceEvents.class.getClassLoader();
+        try {
+            Class.forName("jdk.jfr.FlightRecorder", false, loader);
+            Class<?> type = Class.forName("br.com.fidias.chance4j.jfr.JfrEvents", true, loader);
+            return (EventRecorder) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true if this JVM has Flight Recorder
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static Object beginBatch() {
+        return AVAILABLE ? RECORDER.beginBatch() : null;
+    }
+
+    /**
+     * @param event Returned by {@link #beginBatch()}
+     * @param fields Fields per row
+     * @param rows Rows generated
+     */
+    public static void endBatch(Object event, int fields, long rows) {
+        if (event != null) {
+            RECORDER.endBatch(event, fields, rows);
+        }
+    }
+
+    public static Object beginDictionaryLoad() {
+        return AVAILABLE ? RECORDER.beginDictionaryLoad() : null;
+    }
+
+    /**
+     * @param event Returned by {@link #beginDictionaryLoad()}
+     * @param resource Path of the resource
+     * @param bytes Size of the resource
+     * @param names Names read, in every section
+     */
+    public static void endDictionaryLoad(Object event, String resource, long bytes, int names) {
+        if (event != null) {
+            RECORDER.endDictionaryLoad(event, resource, bytes, names);
+        }
+    }
+
+    /**
+     * @param oldCapacity Slots before the growth
+     * @param newCapacity Slots after the growth
+     * @param size Values in the set
+     */
+    public static void uniqueSetGrown(int oldCapacity, int newCapacity, int size) {
+        if (AVAILABLE) {
+            RECORDER.uniqueSetGrown(oldCapacity, newCapacity, size);
+        }
+    }
+}
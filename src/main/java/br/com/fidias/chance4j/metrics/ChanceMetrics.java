@@ -0,0 +1,210 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.metrics;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.Generator;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Opt-in counters of generator calls. Generators are instrumented by name,
+ * and generators with the same name share their counters.
+ * <pre>
+ * ChanceMetrics metrics = new ChanceMetrics(true);
+ * Generator&lt;String&gt; names = metrics.instrument("name", Chance::name);
+ * RecordTemplate template = RecordTemplate.builder()
+ *         .metrics(metrics)
+ *         .cpf("cpf", CpfOptions.masked)
+ *         .build();
+ * metrics.get("cpf").calls();
+ * metrics.register("fixtures");
+ * </pre>
+ *
+ * Only instrumented generators pay for the metrics: a call count and, for
+ * texts, a length count, both on {@link java.util.concurrent.atomic.LongAdder}.
+ * Latency recording adds two calls to {@link System#nanoTime()}.
+ *
+ * @author atila
+ */
+public final class ChanceMetrics implements ChanceMetricsMXBean {
+
+    public final static String DOMAIN = "br.com.fidias.chance4j";
+
+    private final boolean latency;
+    private final ConcurrentMap<String, GeneratorMetrics> metrics = new ConcurrentHashMap<>();
+    private ObjectName objectName;
+
+    /**
+     * @param latency Whether to record the latency of every call
+     */
+    public ChanceMetrics(boolean latency) {
+        this.latency = latency;
+    }
+
+    public ChanceMetrics() {
+        this(false);
+    }
+
+    /**
+     * Wrap a generator so its calls are counted.
+     *
+     * @param <T> Type of the generated values
+     * @param name Name of the counters
+     * @param generator Generator to be counted
+     * @return The instrumented generator
+     */
+    public <T> Generator<T> instrument(String name, final Generator<T> generator) {
+        final GeneratorMetrics counters = metrics.computeIfAbsent(name,
+                key -> new GeneratorMetrics(key, latency));
+        final LatencyHistogram histogram = counters.latency();
+        if (histogram == null) {
+            return new Generator<T>() {
+                @Override
+                public T generate(Chance chance) throws ChanceException {
+                    T value = generator.generate(chance);
+                    counters.record(value);
+                    return value;
+                }
+            };
+        }
+        return new Generator<T>() {
+            @Override
+            public T generate(Chance chance) throws ChanceException {
+                long start = System.nanoTime();
+                T value = generator.generate(chance);
+                histogram.record(System.nanoTime() - start);
+                counters.record(value);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * @param name Name of the counters
+     * @return The counters, or null if no generator has this name
+     */
+    public GeneratorMetrics get(String name) {
+        return metrics.get(name);
+    }
+
+    /**
+     * @return Counters of every instrumented generator, sorted by name
+     */
+    public Map<String, GeneratorMetrics> getMetrics() {
+        return Collections.unmodifiableMap(new TreeMap<>(metrics));
+    }
+
+    @Override
+    public Map<String, Long> getCalls() {
+        Map<String, Long> calls = new TreeMap<>();
+        for (GeneratorMetrics counters : metrics.values()) {
+            calls.put(counters.getName(), counters.calls());
+        }
+        return calls;
+    }
+
+    @Override
+    public Map<String, Long> getCharacters() {
+        Map<String, Long> characters = new TreeMap<>();
+        for (GeneratorMetrics counters : metrics.values()) {
+            characters.put(counters.getName(), counters.characters());
+        }
+        return characters;
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP50() {
+        return percentile(50);
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99() {
+        return percentile(99);
+    }
+
+    private Map<String, Long> percentile(double percentile) {
+        Map<String, Long> values = new TreeMap<>();
+        for (GeneratorMetrics counters : metrics.values()) {
+            if (counters.latency() != null) {
+                values.put(counters.getName(), counters.latency().percentile(percentile));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Zero every counter. Generators stay instrumented.
+     */
+    @Override
+    public void reset() {
+        for (GeneratorMetrics counters : metrics.values()) {
+            counters.reset();
+        }
+    }
+
+    /**
+     * Register as an MXBean in the platform MBean server, as
+     * {@code br.com.fidias.chance4j:type=ChanceMetrics,name=<name>}.
+     *
+     * @param name Name of this instance in JMX
+     * @throws ChanceException if the name is taken or invalid
+     */
+    public synchronized void register(String name) throws ChanceException {
+        if (objectName != null) {
+            throw new ChanceException("Metrics are already registered.");
+        }
+        try {
+            ObjectName object = new ObjectName(DOMAIN + ":type=ChanceMetrics,name="
+                    + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, object);
+            objectName = object;
+        } catch (JMException ex) {
+            throw new ChanceException("Could not register the metrics.", ex);
+        }
+    }
+
+    /**
+     * Remove from the platform MBean server, if registered.
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (JMException ex) {
+            // it's never throw
+        }
+        objectName = null;
+    }
+}
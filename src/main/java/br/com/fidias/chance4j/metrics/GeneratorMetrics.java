@@ -0,0 +1,84 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a single instrumented generator.
+ *
+ * @author atila
+ * @see ChanceMetrics#instrument(java.lang.String, br.com.fidias.chance4j.Generator)
+ */
+public final class GeneratorMetrics {
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder characters = new LongAdder();
+    private final LatencyHistogram latency;
+
+    GeneratorMetrics(String name, boolean latency) {
+        this.name = name;
+        this.latency = latency ? new LatencyHistogram() : null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Number of generated values
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return Total length of the generated texts, in chars
+     */
+    public long characters() {
+        return characters.sum();
+    }
+
+    /**
+     * @return Latencies of the calls, or null if latency recording is off
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    void record(Object value) {
+        calls.increment();
+        if (value instanceof CharSequence) {
+            characters.add(((CharSequence) value).length());
+        }
+    }
+
+    void reset() {
+        calls.reset();
+        characters.reset();
+        if (latency != null) {
+            latency.reset();
+        }
+    }
+}
@@ -31,6 +31,69 @@ import java.util.regex.Pattern;
  * @author atila
  */
 public class Cnpj {
+
+    /**
+     * Greatest base number, the first eight digits of a CNPJ.
+     */
+    public static final int MAX_BASE = 99999999;
+    private static final Pattern FORMAT = Pattern.compile("(\\d{2})(\\d{3})(\\d{3})(\\d{4})(\\d{2})");
+    private static final char[] MASKED = "##.###.###/####-##".toCharArray();
+    private static final char[] UNMASKED = "##############".toCharArray();
+    // weights of the base digits, from the last one
+    private static final int[] WEIGHTS_ONE = {6, 7, 8, 9, 2, 3, 4, 5};
+    private static final int[] WEIGHTS_TWO = {7, 8, 9, 2, 3, 4, 5, 6};
+    // contribution of the branch number 0001 to each sum
+    private static final int BRANCH_ONE = 2;
+    private static final int BRANCH_TWO = 3;
+
+    /**
+     * Append the branch number 0001 and both verifying digits to the first
+     * eight digits of a CNPJ.
+     * <pre>
+     * Cnpj.fromBase(13611628);
+     * => 13611628000175
+     * </pre>
+     *
+     * @param base First eight digits, from 0 to {@value #MAX_BASE}
+     * @return The complete CNPJ
+     * @throws ChanceException if the base is out of range
+     */
+    public static long fromBase(int base) throws ChanceException {
+        if (base < 0 || base > MAX_BASE) {
+            throw new ChanceException(String.format(
+                    "Base accepts values from 0 to %d.", MAX_BASE));
+        }
+        int sumOne = BRANCH_ONE, sumTwo = BRANCH_TWO;
+        int rest = base;
+        for (int i = 0; i < WEIGHTS_ONE.length; i++) {
+            int digit = rest % 10;
+            sumOne += digit * WEIGHTS_ONE[i];
+            sumTwo += digit * WEIGHTS_TWO[i];
+            rest /= 10;
+        }
+        int d1 = Digits.modulo11(sumOne);
+        int d2 = Digits.modulo11(sumTwo + d1 * 2);
+        return (base * 10000L + 1) * 100 + d1 * 10 + d2;
+    }
+
+    /**
+     * Render a CNPJ, either unmasked (00000000000000) or masked
+     * (00.000.000/0000-00).
+     *
+     * @param cnpj The CNPJ
+     * @param options Masked or unmasked CNPJ
+     * @return The CNPJ as text
+     */
+    public static String toText(long cnpj, CnpjOptions options) {
+        switch (options) {
+            case masked:
+                return Digits.render(cnpj, MASKED);
+            case unmasked:
+                return Digits.render(cnpj, UNMASKED);
+            default:
+                throw new AssertionError();
+        }
+    }
     
     public static int calculateVerifyingDigitOne(int[] values) throws ChanceException {
         if (values == null || values.length != 8) {
@@ -77,8 +140,7 @@ public class Cnpj {
     }
     
     public static String format(String cnpj) {
-        Pattern pattern = Pattern.compile("(\\d{2})(\\d{3})(\\d{3})(\\d{4})(\\d{2})");
-        Matcher matcher = pattern.matcher(cnpj);
+        Matcher matcher = FORMAT.matcher(cnpj);
         if (matcher.matches()) {
             cnpj = matcher.replaceAll("$1.$2.$3/$4-$5");
         }
@@ -31,6 +31,64 @@ import java.util.regex.Pattern;
  * @author atila
  */
 public class Cpf {
+
+    /**
+     * Greatest base number, the first nine digits of a CPF.
+     */
+    public static final int MAX_BASE = 999999999;
+    private static final Pattern FORMAT = Pattern.compile("(\\d{3})(\\d{3})(\\d{3})(\\d{2})");
+    private static final char[] MASKED = "###.###.###-##".toCharArray();
+    private static final char[] UNMASKED = "###########".toCharArray();
+    // weights of the base digits, from the last one
+    private static final int[] WEIGHTS_ONE = {2, 3, 4, 5, 6, 7, 8, 9, 10};
+    private static final int[] WEIGHTS_TWO = {3, 4, 5, 6, 7, 8, 9, 10, 11};
+
+    /**
+     * Append both verifying digits to the first nine digits of a CPF.
+     * <pre>
+     * Cpf.fromBase(688389827);
+     * => 68838982716
+     * </pre>
+     *
+     * @param base First nine digits, from 0 to {@value #MAX_BASE}
+     * @return The complete CPF
+     * @throws ChanceException if the base is out of range
+     */
+    public static long fromBase(int base) throws ChanceException {
+        if (base < 0 || base > MAX_BASE) {
+            throw new ChanceException(String.format(
+                    "Base accepts values from 0 to %d.", MAX_BASE));
+        }
+        int sumOne = 0, sumTwo = 0;
+        int rest = base;
+        for (int i = 0; i < WEIGHTS_ONE.length; i++) {
+            int digit = rest % 10;
+            sumOne += digit * WEIGHTS_ONE[i];
+            sumTwo += digit * WEIGHTS_TWO[i];
+            rest /= 10;
+        }
+        int d1 = Digits.modulo11(sumOne);
+        int d2 = Digits.modulo11(sumTwo + d1 * 2);
+        return base * 100L + d1 * 10 + d2;
+    }
+
+    /**
+     * Render a CPF, either unmasked (00000000000) or masked (000.000.000-00).
+     *
+     * @param cpf The CPF
+     * @param options Masked or unmasked CPF
+     * @return The CPF as text
+     */
+    public static String toText(long cpf, CpfOptions options) {
+        switch (options) {
+            case masked:
+                return Digits.render(cpf, MASKED);
+            case unmasked:
+                return Digits.render(cpf, UNMASKED);
+            default:
+                throw new AssertionError();
+        }
+    }
     
     public static int calculateVerifyingDigitOne(int[] values) throws ChanceException {
         if (values == null || values.length != 9) {
@@ -71,8 +129,7 @@ public class Cpf {
     }
     
     public static String format(String cpf) {
-        Pattern pattern = Pattern.compile("(\\d{3})(\\d{3})(\\d{3})(\\d{2})");
-        Matcher matcher = pattern.matcher(cpf);
+        Matcher matcher = FORMAT.matcher(cpf);
         if (matcher.matches()) {
             cpf = matcher.replaceAll("$1.$2.$3-$4");
         }
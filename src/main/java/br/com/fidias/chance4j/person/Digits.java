@@ -0,0 +1,67 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.person;
+
+/**
+ * Renders document numbers straight into a char[], without DecimalFormat or
+ * regular expressions.
+ *
+ * @author atila
+ */
+final class Digits {
+
+    private Digits() {
+    }
+
+    /**
+     * Render a number over a mask, where every '#' is a digit, filled from
+     * the right and padded with zeros.
+     *
+     * @param value Non negative number to render
+     * @param mask Mask, like "###.###.###-##"
+     * @return The rendered text
+     */
+    static String render(long value, char[] mask) {
+        char[] text = new char[mask.length];
+        for (int i = mask.length - 1; i >= 0; i--) {
+            if (mask[i] == '#') {
+                text[i] = (char) ('0' + value % 10);
+                value /= 10;
+            } else {
+                text[i] = mask[i];
+            }
+        }
+        return new String(text);
+    }
+
+    /**
+     * Check digit of a weighted sum, modulo 11.
+     *
+     * @param sum Weighted sum of the digits
+     * @return The check digit
+     */
+    static int modulo11(int sum) {
+        int digit = 11 - (sum % 11);
+        return digit >= 10 ? 0 : digit;
+    }
+}
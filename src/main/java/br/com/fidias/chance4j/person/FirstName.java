@@ -25,6 +25,7 @@ package br.com.fidias.chance4j.person;
 import br.com.fidias.chance4j.person.name.br.BrazilianFirstName;
 import br.com.fidias.chance4j.person.name.en.EnglishFirstName;
 import br.com.fidias.chance4j.person.name.it.ItalianFirstName;
+import br.com.fidias.chance4j.person.name.NameList;
 import br.com.fidias.chance4j.person.name.Nationality;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -34,8 +35,32 @@ import java.util.logging.Logger;
  * @author atila
  */
 public class FirstName {
+
+    // racy on purpose: at worst the warning is logged more than once
+    private static boolean warned;
     
+    /**
+     * Every first name of a gender and nationality, decoded into a new
+     * array on each call.
+     *
+     * @param gender Either Male or Female, Male if null
+     * @param nationality A nationality, English if null
+     * @return A copy of the first names
+     * @see #getFirstNames(br.com.fidias.chance4j.person.Gender, br.com.fidias.chance4j.person.name.Nationality)
+     */
     public static String[] getFirstNameList(Gender gender, Nationality nationality) {
+        return getFirstNames(gender, nationality).toArray();
+    }
+
+    /**
+     * The first names of a gender and nationality, packed as they are kept
+     * in memory.
+     *
+     * @param gender Either Male or Female, Male if null
+     * @param nationality A nationality, English if null
+     * @return The first names
+     */
+    public static NameList getFirstNames(Gender gender, Nationality nationality) {
         if (gender == null) {
             gender = Gender.Male;
         }
@@ -50,10 +75,13 @@ public class FirstName {
             case Italian:
                 return ItalianFirstName.getNames(gender);
             default:
-                // fallback to English
-                String message = String.format(
-                        "First Name for '%s' not found. Using English instead.", nationality.name());
-                Logger.getLogger(FirstName.class.getName()).log(Level.WARNING, message);
+                // fallback to English, warning only the first time
+                if (!warned) {
+                    warned = true;
+                    String message = String.format(
+                            "First Name for '%s' not found. Using English instead.", nationality.name());
+                    Logger.getLogger(FirstName.class.getName()).log(Level.WARNING, message);
+                }
                 return EnglishFirstName.getNames(gender);
         }
     }
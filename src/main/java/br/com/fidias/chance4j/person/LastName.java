@@ -25,6 +25,7 @@ package br.com.fidias.chance4j.person;
 import br.com.fidias.chance4j.person.name.br.BrazilianLastName;
 import br.com.fidias.chance4j.person.name.en.EnglishLastName;
 import br.com.fidias.chance4j.person.name.it.ItalianLastName;
+import br.com.fidias.chance4j.person.name.NameList;
 import br.com.fidias.chance4j.person.name.Nationality;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -34,8 +35,29 @@ import java.util.logging.Logger;
  * @author atila
  */
 public class LastName {
+
+    // racy on purpose: at worst the warning is logged more than once
+    private static boolean warned;
     
+    /**
+     * Every last name of a nationality, decoded into a new array on each
+     * call.
+     *
+     * @param nationality A nationality, English if null
+     * @return A copy of the last names
+     * @see #getLastNames(br.com.fidias.chance4j.person.name.Nationality)
+     */
     public static String[] getLastNameList(Nationality nationality) {
+        return getLastNames(nationality).toArray();
+    }
+
+    /**
+     * The last names of a nationality, packed as they are kept in memory.
+     *
+     * @param nationality A nationality, English if null
+     * @return The last names
+     */
+    public static NameList getLastNames(Nationality nationality) {
         if (nationality == null) {
             nationality = Nationality.English;
         }
@@ -47,10 +69,13 @@ public class LastName {
             case Italian:
                 return ItalianLastName.NAMES;
             default:
-                // fallback to English
-                String message = String.format(
-                        "Last Name for '%s' not found. Using English instead.", nationality.name());
-                Logger.getLogger(LastName.class.getName()).log(Level.WARNING, message);
+                // fallback to English, warning only the first time
+                if (!warned) {
+                    warned = true;
+                    String message = String.format(
+                            "Last Name for '%s' not found. Using English instead.", nationality.name());
+                    Logger.getLogger(LastName.class.getName()).log(Level.WARNING, message);
+                }
                 return EnglishLastName.NAMES;
         }
     }
@@ -0,0 +1,82 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.person;
+
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.person.name.NameList;
+import br.com.fidias.chance4j.random.AliasTable;
+import br.com.fidias.chance4j.random.SplitMix64Engine;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Synthetic Zipf weights for the name lists, so a few names are very common
+ * and most are rare, as in real populations.
+ *
+ * The dictionaries carry no frequency data, so these weights are not real
+ * name frequencies. Every list follows Zipf's law, the usual shape of name
+ * frequencies: the name of rank r has weight 1 / r. Ranks are a fixed
+ * pseudorandom permutation of the list, taken from a hash of each name, so
+ * which names are common is arbitrary: "Agnes" may well outrank "Mary". Use
+ * them for a realistic cardinality, not for the share of any given name.
+ *
+ * @author atila
+ */
+public class NameFrequency {
+
+    private static final double ZIPF_EXPONENT = 1;
+    // keyed by identity, one table per (gender, nationality) and nationality
+    private static final Map<NameList, AliasTable> TABLES = new ConcurrentHashMap<>();
+
+    /**
+     * Alias table of a name list, built on first use.
+     *
+     * @param names A list of {@link FirstName} or {@link LastName}
+     * @return The table, with one weight per name
+     */
+    public static AliasTable getTable(NameList names) {
+        return TABLES.computeIfAbsent(names, NameFrequency::build);
+    }
+
+    private static AliasTable build(NameList names) {
+        Integer[] byRank = new Integer[names.size()];
+        long[] keys = new long[names.size()];
+        for (int i = 0; i < byRank.length; i++) {
+            byRank[i] = i;
+            keys[i] = SplitMix64Engine.mix64(names.get(i).hashCode());
+        }
+        Arrays.sort(byRank, Comparator.comparingLong(i -> keys[i]));
+        double[] weights = new double[names.size()];
+        for (int rank = 0; rank < byRank.length; rank++) {
+            weights[byRank[rank]] = 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+        }
+        try {
+            return AliasTable.of(weights);
+        } catch (ChanceException e) {
+            // it's never throw
+            throw new AssertionError(e);
+        }
+    }
+}
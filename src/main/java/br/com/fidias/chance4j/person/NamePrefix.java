@@ -29,8 +29,44 @@ import br.com.fidias.chance4j.person.name.PrefixSuffixOptions;
  * @author atila
  */
 public class NamePrefix {
-    
+
+    private final static String[] MALE_FULL = {"Doctor", "Mister", "Sir"};
+    private final static String[] MALE_ABBREVIATED = {"Dr.", "Mr.", "Sr."};
+    private final static String[] FEMALE_FULL = {"Doctor", "Miss", "Misses"};
+    private final static String[] FEMALE_ABBREVIATED = {"Dr.", "Miss", "Mrs."};
+
+    /**
+     * @param gender Either Male or Female
+     * @param options Either full or abbreviated
+     * @return A copy of the prefixes, free to change
+     */
     public static String[] getNamePrefixList(Gender gender, PrefixSuffixOptions options) {
+        return list(gender, options).clone();
+    }
+
+    /**
+     * @param gender Either Male or Female
+     * @param options Either full or abbreviated
+     * @return Number of prefixes
+     */
+    public static int getNamePrefixCount(Gender gender, PrefixSuffixOptions options) {
+        return list(gender, options).length;
+    }
+
+    /**
+     * Return a prefix without copying the list.
+     *
+     * @param gender Either Male or Female
+     * @param options Either full or abbreviated
+     * @param index Index of the prefix, less than
+     * {@link #getNamePrefixCount(br.com.fidias.chance4j.person.Gender, br.com.fidias.chance4j.person.name.PrefixSuffixOptions)}
+     * @return The prefix
+     */
+    public static String getNamePrefix(Gender gender, PrefixSuffixOptions options, int index) {
+        return list(gender, options)[index];
+    }
+
+    private static String[] list(Gender gender, PrefixSuffixOptions options) {
         if (gender == null) {
             gender = Gender.Male;
         }
@@ -42,18 +78,18 @@ public class NamePrefix {
             default:
                 switch (options) {
                     case full:
-                        return new String[]{"Doctor", "Mister", "Sir"};
+                        return MALE_FULL;
                     case abbreviated:
                     default:
-                        return new String[]{"Dr.", "Mr.", "Sr."};
+                        return MALE_ABBREVIATED;
                 }
             case Female:
                 switch (options) {
                     case full:
-                        return new String[]{"Doctor", "Miss", "Misses"};
+                        return FEMALE_FULL;
                     case abbreviated:
                     default:
-                        return new String[]{"Dr.", "Miss", "Mrs."};
+                        return FEMALE_ABBREVIATED;
                 }
         }
     }
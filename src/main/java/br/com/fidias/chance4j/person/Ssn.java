@@ -30,10 +30,11 @@ import java.util.regex.Pattern;
  * @author atila
  */
 public class Ssn {
+
+    private static final Pattern FORMAT = Pattern.compile("(\\d{3})(\\d{2})(\\d{4})");
     
     public static String format(String ssn) {
-        Pattern pattern = Pattern.compile("(\\d{3})(\\d{2})(\\d{4})");
-        Matcher matcher = pattern.matcher(ssn);
+        Matcher matcher = FORMAT.matcher(ssn);
         if (matcher.matches()) {
             ssn = matcher.replaceAll("$1-$2-$3");
         }
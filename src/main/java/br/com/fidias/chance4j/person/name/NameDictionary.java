@@ -0,0 +1,177 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.person.name;
+
+import br.com.fidias.chance4j.jfr.ChanceEvents;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Loads the name lists of a nationality from one resource file, a UTF-8 blob
+ * with a name per line, split in sections:
+ * <pre>
+ * # female
+ * Agatha
+ * ...
+ * # last
+ * Almeida
+ * </pre>
+ * The bytes of the file are kept as they are, and each section is a
+ * {@link NameList} of offsets into them. A nationality is read once, the
+ * first time any of its lists is used, so the lists neither bloat the class
+ * files nor load together.
+ *
+ * @author atila
+ */
+public final class NameDictionary {
+
+    private static final byte[] SECTION = "# ".getBytes(StandardCharsets.US_ASCII);
+    // parsed files by resource path. Two threads may read the same file at
+    // once, the first one stored wins. No computeIfAbsent, as a lambda costs
+    // more than the file itself on a cold JVM
+    private static final ConcurrentMap<String, Map<String, NameList>> FILES =
+            new ConcurrentHashMap<>();
+
+    private NameDictionary() {
+    }
+
+    /**
+     * Load a name list.
+     *
+     * @param owner Class whose package holds the resource
+     * @param resource Name of the resource, relative to the package of owner
+     * @param section Name of the section
+     * @return The names of the section, in the order of the file
+     */
+    public static NameList load(Class<?> owner, String resource, String section) {
+        String path = owner.getPackage().getName().replace('.', '/') + '/' + resource;
+        Map<String, NameList> sections = FILES.get(path);
+        if (sections == null) {
+            sections = read(path);
+            Map<String, NameList> stored = FILES.putIfAbsent(path, sections);
+            if (stored != null) {
+                sections = stored;
+            }
+        }
+        NameList names = sections.get(section);
+        if (names == null) {
+            throw new IllegalStateException(String.format(
+                    "Section '%s' not found in name dictionary %s", section, path));
+        }
+        return names;
+    }
+
+    private static Map<String, NameList> read(String path) {
+        Object event = ChanceEvents.beginDictionaryLoad();
+        byte[] blob;
+        try (InputStream in = NameDictionary.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Name dictionary not found: " + path);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            blob = out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read name dictionary " + path, e);
+        }
+        Map<String, NameList> sections = split(blob);
+        if (event != null) {
+            int names = 0;
+            for (NameList section : sections.values()) {
+                names += section.size();
+            }
+            ChanceEvents.endDictionaryLoad(event, path, blob.length, names);
+        }
+        return sections;
+    }
+
+    private static Map<String, NameList> split(byte[] blob) {
+        Map<String, NameList> sections = new HashMap<>();
+        // start and end offsets of the lines of the current section
+        int[] offsets = new int[128];
+        int count = 0;
+        String section = null;
+        int start = 0;
+        while (start < blob.length) {
+            int end = start;
+            while (end < blob.length && blob[end] != '\n') {
+                end++;
+            }
+            int next = end + 1;
+            // '\n' is never part of a multibyte character, and neither is '\r'
+            if (end > start && blob[end - 1] == '\r') {
+                end--;
+            }
+            if (end > start && startsWithSection(blob, start, end)) {
+                if (section != null) {
+                    sections.put(section, list(blob, offsets, count));
+                }
+                section = new String(blob, start + SECTION.length,
+                        end - start - SECTION.length, StandardCharsets.UTF_8);
+                count = 0;
+            } else if (end > start) {
+                if (count == offsets.length) {
+                    int[] grown = new int[offsets.length * 2];
+                    System.arraycopy(offsets, 0, grown, 0, offsets.length);
+                    offsets = grown;
+                }
+                offsets[count++] = start;
+                offsets[count++] = end;
+            }
+            start = next;
+        }
+        if (section != null) {
+            sections.put(section, list(blob, offsets, count));
+        }
+        return sections;
+    }
+
+    private static boolean startsWithSection(byte[] blob, int start, int end) {
+        if (end - start < SECTION.length) {
+            return false;
+        }
+        for (int i = 0; i < SECTION.length; i++) {
+            if (blob[start + i] != SECTION[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static NameList list(byte[] blob, int[] offsets, int count) {
+        int[] exact = new int[count];
+        System.arraycopy(offsets, 0, exact, 0, count);
+        return new NameList(blob, exact);
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.person.name;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A list of names packed in the UTF-8 bytes of its dictionary file, with the
+ * start and end offset of each name. A name only becomes a String when it
+ * is read, so a list costs its bytes plus 8 bytes per name. Immutable and
+ * thread safe.
+ *
+ * @author atila
+ */
+public final class NameList {
+
+    // shared by every section of the same file
+    private final byte[] blob;
+    // start and end of name i at 2 * i and 2 * i + 1
+    private final int[] offsets;
+
+    NameList(byte[] blob, int[] offsets) {
+        this.blob = blob;
+        this.offsets = offsets;
+    }
+
+    /**
+     * @return Number of names
+     */
+    public int size() {
+        return offsets.length >> 1;
+    }
+
+    /**
+     * Decode a name.
+     *
+     * @param index Index of the name, from zero
+     * @return The name
+     */
+    public String get(int index) {
+        int start = offsets[index << 1];
+        return new String(blob, start, offsets[(index << 1) + 1] - start,
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return Every name decoded, in the order of the file
+     */
+    public String[] toArray() {
+        String[] names = new String[size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = get(i);
+        }
+        return names;
+    }
+}
@@ -28,7 +28,7 @@ package br.com.fidias.chance4j.person.name;
  */
 public class NameOptions {
     
-    private boolean middle, middleInitial, prefix;
+    private boolean middle, middleInitial, prefix, weighted;
     
     /**
      * Initialize NameOptions with all options set to false.
@@ -37,6 +37,7 @@ public class NameOptions {
         this.middle = false;
         this.middleInitial = false;
         this.prefix = false;
+        this.weighted = false;
     }
 
     public boolean isMiddle() {
@@ -62,4 +63,19 @@ public class NameOptions {
     public void setPrefix(boolean prefix) {
         this.prefix = prefix;
     }
+
+    public boolean isWeighted() {
+        return weighted;
+    }
+
+    /**
+     * Draw names with synthetic Zipf weights instead of uniformly. Some names
+     * come up much more often than others, but which ones is arbitrary.
+     *
+     * @param weighted true for Zipf weighted names
+     * @see br.com.fidias.chance4j.person.NameFrequency
+     */
+    public void setWeighted(boolean weighted) {
+        this.weighted = weighted;
+    }
 }
@@ -23,8 +23,8 @@
 package br.com.fidias.chance4j.person.name.br;
 
 import br.com.fidias.chance4j.person.Gender;
-import java.util.EnumMap;
-import java.util.Map;
+import br.com.fidias.chance4j.person.name.NameDictionary;
+import br.com.fidias.chance4j.person.name.NameList;
 
 /**
  *
@@ -32,149 +32,20 @@ import java.util.Map;
  */
 public class BrazilianFirstName {
     
-    private final static Map<Gender, String[]> NAMES = new EnumMap(Gender.class);
+    private final static NameList FEMALE_NAMES =
+            NameDictionary.load(BrazilianFirstName.class, "names.txt", "female");
     
-    public static String[] getNames(Gender gender) {
-        if (NAMES.isEmpty()) {
-            NAMES.put(Gender.Female, FEMALE_NAMES);
-            NAMES.put(Gender.Male, MALE_NAMES);
-        }
-        return NAMES.get(gender);
-    }
-    
-    private final static String[] FEMALE_NAMES = new String[] {
-        "Agatha",
-        "Alana",
-        "Alice",
-        "Alícia",
-        "Amanda",
-        "Ana",
-        "Bárbara",
-        "Beatriz",
-        "Bianca",
-        "Brenda",
-        "Bruna",
-        "Camila",
-        "Carolina",
-        "Catarina",
-        "Cecília",
-        "Clara",
-        "Clarice",
-        "Débora",
-        "Eduarda",
-        "Elisa",
-        "Eloá",
-        "Emanuelly",
-        "Emilly",
-        "Esther",
-        "Fernanda",
-        "Gabriela",
-        "Giovanna",
-        "Helena",
-        "Heloísa",
-        "Isabel",
-        "Isabella",
-        "Isabelly",
-        "Isadora",
-        "Ísis",
-        "Joana",
-        "Júlia",
-        "Juliana",
-        "Laís",
-        "Lara",
-        "Larissa",
-        "Laura",
-        "Lavínia",
-        "Letícia",
-        "Lívia",
-        "Liz",
-        "Lorena",
-        "Luana",
-        "Luiza",
-        "Maitê",
-        "Manuela",
-        "Marcela",
-        "Maria",
-        "Mariana",
-        "Marina",
-        "Melissa",
-        "Milena",
-        "Natália",
-        "Nicole",
-        "Olívia",
-        "Paola",
-        "Pietra",
-        "Rafaela",
-        "Raquel",
-        "Rebeca",
-        "Sarah",
-        "Sophia",
-        "Valentina",
-        "Vitória",
-        "Yasmin",
-    };
+    private final static NameList MALE_NAMES =
+            NameDictionary.load(BrazilianFirstName.class, "names.txt", "male");
     
-    private final static String[] MALE_NAMES = new String[] {
-        "André",
-        "Antônio",
-        "Arthur",
-        "Augusto",
-        "Benjamin",
-        "Bernardo",
-        "Breno",
-        "Brian",
-        "Bruno",
-        "Caio",
-        "Cauã",
-        "Daniel",
-        "Danilo",
-        "Davi",
-        "Diego",
-        "Diogo",
-        "Eduardo",
-        "Emanuel",
-        "Felipe",
-        "Fernando",
-        "Francisco",
-        "Gabriel",
-        "Guilherme",
-        "Gustavo",
-        "Heitor",
-        "Henrique",
-        "Hugo",
-        "Iago",
-        "Ian",
-        "Isaac",
-        "Iuri",
-        "João",
-        "Joaquim",
-        "Juan",
-        "Kauê",
-        "Leonardo",
-        "Levi",
-        "Lorenzo",
-        "Luan",
-        "Lucas",
-        "Luiz",
-        "Marcelo",
-        "Mateus",
-        "Miguel",
-        "Murilo",
-        "Nicolas",
-        "Otávio",
-        "Pedro",
-        "Rafael",
-        "Raul",
-        "Renan",
-        "Ricardo",
-        "Rodrigo",
-        "Samuel",
-        "Tales",
-        "Téo",
-        "Tiago",
-        "Tomas",
-        "Vicente",
-        "Vinicius",
-        "Vitor",
-    };
-}
\ No newline at end of file
+    /**
+     * Names of a gender. The lists are loaded with the class, so they are
+     * safely published to every thread.
+     *
+     * @param gender Either Male or Female
+     * @return The first names
+     */
+    public static NameList getNames(Gender gender) {
+        return gender == Gender.Female ? FEMALE_NAMES : MALE_NAMES;
+    }
+}
@@ -22,80 +22,15 @@
  */
 package br.com.fidias.chance4j.person.name.br;
 
+import br.com.fidias.chance4j.person.name.NameDictionary;
+import br.com.fidias.chance4j.person.name.NameList;
+
 /**
  *
  * @author atila
  */
 public class BrazilianLastName {
 
-    public final static String[] NAMES = new String[]{
-        "Almeida",
-        "Alves",
-        "Aragão",
-        "Araújo",
-        "Barbosa",
-        "Barros",
-        "Caldeira",
-        "Campos",
-        "Camurça",
-        "Cardoso",
-        "Carvalho",
-        "Castro",
-        "Cavalcanti",
-        "Costa",
-        "da Conceição",
-        "da Costa",
-        "da Cruz",
-        "da Cunha",
-        "da Luz",
-        "da Mata",
-        "da Mota",
-        "da Paz",
-        "da Rocha",
-        "da Rosa",
-        "das Neves",
-        "Dias",
-        "Duarte",
-        "Farias",
-        "Fernandes",
-        "Ferreira",
-        "Fogaça",
-        "Freitas",
-        "Gomes",
-        "Gonçalves",
-        "Jesus",
-        "Lima",
-        "Lopes",
-        "Martins",
-        "Melo",
-        "Mendes",
-        "Mesquita",
-        "Monteiro",
-        "Moraes",
-        "Moreira",
-        "Moura",
-        "Nascimento",
-        "Nogueira",
-        "Novaes",
-        "Nunes",
-        "Oliveira",
-        "Peixoto",
-        "Pereira",
-        "Pinto",
-        "Pires",
-        "Porto",
-        "Ramos",
-        "Rezende",
-        "Ribeiro",
-        "Rocha",
-        "Rodrigues",
-        "Sales",
-        "Santos",
-        "Silva",
-        "Silveira",
-        "Souza",
-        "Teixeira",
-        "Viana",
-        "Vieira"
-    };
+    public final static NameList NAMES =
+            NameDictionary.load(BrazilianLastName.class, "names.txt", "last");
 }
@@ -23,8 +23,8 @@
 package br.com.fidias.chance4j.person.name.en;
 
 import br.com.fidias.chance4j.person.Gender;
-import java.util.EnumMap;
-import java.util.Map;
+import br.com.fidias.chance4j.person.name.NameDictionary;
+import br.com.fidias.chance4j.person.name.NameList;
 
 /**
  *
@@ -32,519 +32,20 @@ import java.util.Map;
  */
 public class EnglishFirstName {
     
-    private final static Map<Gender, String[]> NAMES = new EnumMap(Gender.class);
+    private final static NameList FEMALE_NAMES =
+            NameDictionary.load(EnglishFirstName.class, "names.txt", "female");
     
-    public static String[] getNames(Gender gender) {
-        if (NAMES.isEmpty()) {
-            NAMES.put(Gender.Female, FEMALE_NAMES);
-            NAMES.put(Gender.Male, MALE_NAMES);
-        }
-        return NAMES.get(gender);
-    }
-    
-    private final static String[] FEMALE_NAMES = new String[] {
-        "Abbie",
-        "Ada",
-        "Addie",
-        "Adelaide",
-        "Adele",
-        "Adeline",
-        "Agnes",
-        "Alberta",
-        "Alice",
-        "Allie",
-        "Alma",
-        "Alta",
-        "Amanda",
-        "Amelia",
-        "Amy",
-        "Ann",
-        "Anne",
-        "Annie",
-        "Augusta",
-        "Barbara",
-        "Beatrice",
-        "Belle",
-        "Bernice",
-        "Bertha",
-        "Bertie",
-        "Bess",
-        "Bessie",
-        "Bettie",
-        "Betty",
-        "Beulah",
-        "Birdie",
-        "Blanche",
-        "Callie",
-        "Caroline",
-        "Carolyn",
-        "Carrie",
-        "Catherine",
-        "Cecelia",
-        "Cecilia",
-        "Celia",
-        "Charlotte",
-        "Christina",
-        "Christine",
-        "Clara",
-        "Claudia",
-        "Cora",
-        "Cordelia",
-        "Cornelia",
-        "Cynthia",
-        "Daisy",
-        "Delia",
-        "Della",
-        "Dollie",
-        "Dora",
-        "Dorothy",
-        "Edith",
-        "Edna",
-        "Effie",
-        "Eleanor",
-        "Eliza",
-        "Elizabeth",
-        "Ella",
-        "Ellen",
-        "Elnora",
-        "Elsie",
-        "Elva",
-        "Emilie",
-        "Emily",
-        "Emma",
-        "Essie",
-        "Estella",
-        "Estelle",
-        "Esther",
-        "Ethel",
-        "Etta",
-        "Eugenia",
-        "Eula",
-        "Eunice",
-        "Eva",
-        "Evelyn",
-        "Fannie",
-        "Fanny",
-        "Flora",
-        "Florence",
-        "Frances",
-        "Francis",
-        "Genevieve",
-        "Georgia",
-        "Georgie",
-        "Gertrude",
-        "Grace",
-        "Gussie",
-        "Hallie",
-        "Hannah",
-        "Harriet",
-        "Harriett",
-        "Hattie",
-        "Helen",
-        "Helena",
-        "Henrietta",
-        "Hester",
-        "Hettie",
-        "Hilda",
-        "Hulda",
-        "Ida",
-        "Ina",
-        "Inez",
-        "Irene",
-        "Isabel",
-        "Isabella",
-        "Isabelle",
-        "Iva",
-        "Jane",
-        "Janie",
-        "Jean",
-        "Jeanette",
-        "Jennie",
-        "Jessie",
-        "Johanna",
-        "John",
-        "Josephine",
-        "Josie",
-        "Julia",
-        "Kate",
-        "Katharine",
-        "Katherine",
-        "Kathryn",
-        "Katie",
-        "Laura",
-        "Leah",
-        "Leila",
-        "Lela",
-        "Lelia",
-        "Lena",
-        "Lenora",
-        "Leona",
-        "Lettie",
-        "Lida",
-        "Lillian",
-        "Lillie",
-        "Lilly",
-        "Lily",
-        "Lina",
-        "Linnie",
-        "Lizzie",
-        "Lois",
-        "Lola",
-        "Lora",
-        "Loretta",
-        "Lottie",
-        "Lou",
-        "Louisa",
-        "Louise",
-        "Lucile",
-        "Lucille",
-        "Lucinda",
-        "Lucy",
-        "Luella",
-        "Lula",
-        "Lulu",
-        "Lura",
-        "Lydia",
-        "Mabel",
-        "Mabelle",
-        "Mable",
-        "Madge",
-        "Mae",
-        "Maggie",
-        "Mamie",
-        "Margaret",
-        "Marguerite",
-        "Maria",
-        "Marian",
-        "Marie",
-        "Marion",
-        "Martha",
-        "Mary",
-        "Mathilda",
-        "Matilda",
-        "Mattie",
-        "Maud",
-        "Maude",
-        "May",
-        "Mayme",
-        "Mildred",
-        "Millie",
-        "Mina",
-        "Minerva",
-        "Minnie",
-        "Mittie",
-        "Mollie",
-        "Myra",
-        "Myrtie",
-        "Myrtle",
-        "Nancy",
-        "Nannie",
-        "Nell",
-        "Nelle",
-        "Nellie",
-        "Nettie",
-        "Nina",
-        "Nora",
-        "Ola",
-        "Olga",
-        "Olive",
-        "Olivia",
-        "Ollie",
-        "Ophelia",
-        "Ora",
-        "Pauline",
-        "Pearl",
-        "Phoebe",
-        "Polly",
-        "Rachel",
-        "Rebecca",
-        "Rena",
-        "Rhoda",
-        "Rosa",
-        "Rosalie",
-        "Rose",
-        "Rosetta",
-        "Rosie",
-        "Roxie",
-        "Ruby",
-        "Ruth",
-        "Sadie",
-        "Sallie",
-        "Sally",
-        "Sara",
-        "Sarah",
-        "Sophia",
-        "Sophie",
-        "Stella",
-        "Sue",
-        "Susan",
-        "Susie",
-        "Sylvia",
-        "Teresa",
-        "Theresa",
-        "Tillie",
-        "Vera",
-        "Verna",
-        "Victoria",
-        "Viola",
-        "Violet",
-        "Virgie",
-        "Virginia",
-        "Willie",
-        "Winifred",
-        "Winnie",
-    };
+    private final static NameList MALE_NAMES =
+            NameDictionary.load(EnglishFirstName.class, "names.txt", "male");
     
-    private final static String[] MALE_NAMES = new String[] {
-        "Aaron",
-        "Adam",
-        "Adrian",
-        "Aiden",
-        "Alan",
-        "Albert",
-        "Alejandro",
-        "Alex",
-        "Alexander",
-        "Alfred",
-        "Allen",
-        "Alvin",
-        "Andre",
-        "Andrew",
-        "Angel",
-        "Anthony",
-        "Antonio",
-        "Arthur",
-        "Austin",
-        "Barry",
-        "Benjamin",
-        "Bernard",
-        "Bill",
-        "Billy",
-        "Blake",
-        "Bobby",
-        "Bradley",
-        "Brandon",
-        "Brent",
-        "Brett",
-        "Brian",
-        "Bruce",
-        "Bryan",
-        "Caleb",
-        "Calvin",
-        "Cameron",
-        "Carl",
-        "Carlos",
-        "Chad",
-        "Charles",
-        "Charlie",
-        "Chase",
-        "Chester",
-        "Chris",
-        "Christian",
-        "Christopher",
-        "Clarence",
-        "Clayton",
-        "Clifford",
-        "Clyde",
-        "Cody",
-        "Cole",
-        "Connor",
-        "Corey",
-        "Cory",
-        "Craig",
-        "Curtis",
-        "Dale",
-        "Daniel",
-        "Danny",
-        "Darrell",
-        "David",
-        "Dean",
-        "Dennis",
-        "Derek",
-        "Derrick",
-        "Devin",
-        "Dominic",
-        "Don",
-        "Donald",
-        "Douglas",
-        "Duane",
-        "Dustin",
-        "Dylan",
-        "Earl",
-        "Eddie",
-        "Edgar",
-        "Edward",
-        "Edwin",
-        "Elijah",
-        "Elmer",
-        "Eric",
-        "Erik",
-        "Ernest",
-        "Ethan",
-        "Eugene",
-        "Evan",
-        "Floyd",
-        "Francis",
-        "Francisco",
-        "Frank",
-        "Franklin",
-        "Fred",
-        "Frederick",
-        "Gabriel",
-        "Garrett",
-        "Gary",
-        "Gavin",
-        "Gene",
-        "George",
-        "Gerald",
-        "Gilbert",
-        "Glen",
-        "Glenn",
-        "Gordon",
-        "Gregory",
-        "Harold",
-        "Harry",
-        "Harvey",
-        "Henry",
-        "Herbert",
-        "Herman",
-        "Howard",
-        "Hunter",
-        "Ian",
-        "Isaac",
-        "Isaiah",
-        "Ivan",
-        "Jack",
-        "Jackson",
-        "Jacob",
-        "James",
-        "Jared",
-        "Jason",
-        "Jay",
-        "Jayden",
-        "Jeff",
-        "Jeffery",
-        "Jeffrey",
-        "Jeremiah",
-        "Jeremy",
-        "Jerome",
-        "Jerry",
-        "Jesse",
-        "Jesus",
-        "Jim",
-        "Jimmy",
-        "Joe",
-        "Joel",
-        "John",
-        "Johnny",
-        "Jon",
-        "Jonathan",
-        "Jordan",
-        "Jorge",
-        "Jose",
-        "Joseph",
-        "Joshua",
-        "Juan",
-        "Julian",
-        "Justin",
-        "Keith",
-        "Kenneth",
-        "Kevin",
-        "Kyle",
-        "Landon",
-        "Larry",
-        "Lawrence",
-        "Lee",
-        "Leo",
-        "Leon",
-        "Leonard",
-        "Leroy",
-        "Lester",
-        "Lewis",
-        "Lloyd",
-        "Logan",
-        "Louis",
-        "Lucas",
-        "Luis",
-        "Luke",
-        "Manuel",
-        "Marc",
-        "Marcus",
-        "Mario",
-        "Mark",
-        "Martin",
-        "Marvin",
-        "Mason",
-        "Matthew",
-        "Maurice",
-        "Max",
-        "Melvin",
-        "Michael",
-        "Micheal",
-        "Miguel",
-        "Mike",
-        "Milton",
-        "Mitchell",
-        "Nathan",
-        "Nathaniel",
-        "Nicholas",
-        "Noah",
-        "Norman",
-        "Oscar",
-        "Owen",
-        "Patrick",
-        "Paul",
-        "Peter",
-        "Philip",
-        "Phillip",
-        "Ralph",
-        "Randall",
-        "Randy",
-        "Ray",
-        "Raymond",
-        "Ricardo",
-        "Richard",
-        "Ricky",
-        "Robert",
-        "Rodney",
-        "Roger",
-        "Ronald",
-        "Ronnie",
-        "Roy",
-        "Russell",
-        "Ryan",
-        "Sam",
-        "Samuel",
-        "Scott",
-        "Sean",
-        "Seth",
-        "Shane",
-        "Shawn",
-        "Stanley",
-        "Stephen",
-        "Steve",
-        "Steven",
-        "Terry",
-        "Theodore",
-        "Thomas",
-        "Timothy",
-        "Todd",
-        "Tom",
-        "Tommy",
-        "Tony",
-        "Travis",
-        "Trevor",
-        "Troy",
-        "Tyler",
-        "Vernon",
-        "Victor",
-        "Vincent",
-        "Walter",
-        "Warren",
-        "Wayne",
-        "Wesley",
-        "William",
-        "Willie",
-        "Zachary",
-    };
+    /**
+     * Names of a gender. The lists are loaded with the class, so they are
+     * safely published to every thread.
+     *
+     * @param gender Either Male or Female
+     * @return The first names
+     */
+    public static NameList getNames(Gender gender) {
+        return gender == Gender.Female ? FEMALE_NAMES : MALE_NAMES;
+    }
 }
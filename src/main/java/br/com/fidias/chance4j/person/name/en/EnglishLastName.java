@@ -22,212 +22,15 @@
  */
 package br.com.fidias.chance4j.person.name.en;
 
+import br.com.fidias.chance4j.person.name.NameDictionary;
+import br.com.fidias.chance4j.person.name.NameList;
+
 /**
  *
  * @author atila
  */
 public class EnglishLastName {
 
-    public final static String[] NAMES = new String[]{
-        "Abbott",
-        "Adkins",
-        "Aguilar",
-        "Allison",
-        "Alvarado",
-        "Atkins",
-        "Baldwin",
-        "Ball",
-        "Ballard",
-        "Barber",
-        "Barker",
-        "Barton",
-        "Bass",
-        "Becker",
-        "Benson",
-        "Blair",
-        "Blake",
-        "Boone",
-        "Bowen",
-        "Bowers",
-        "Brady",
-        "Bridges",
-        "Briggs",
-        "Brock",
-        "Bryan",
-        "Buchanan",
-        "Burgess",
-        "Bush",
-        "Cain",
-        "Cannon",
-        "Carson",
-        "Casey",
-        "Chandler",
-        "Christensen",
-        "Clarke",
-        "Clayton",
-        "Cobb",
-        "Cohen",
-        "Collier",
-        "Colon",
-        "Conner",
-        "Copeland",
-        "Cortez",
-        "Cross",
-        "Cummings",
-        "Curry",
-        "Daniel",
-        "Dawson",
-        "Delgado",
-        "Dennis",
-        "Doyle",
-        "Drake",
-        "Erickson",
-        "Estrada",
-        "Farmer",
-        "Figueroa",
-        "Fitzgerald",
-        "Flowers",
-        "Floyd",
-        "Francis",
-        "Frank",
-        "French",
-        "Garner",
-        "Gibbs",
-        "Gill",
-        "Glover",
-        "Goodman",
-        "Goodwin",
-        "Greer",
-        "Griffith",
-        "Gross",
-        "Guerrero",
-        "Guzman",
-        "Hammond",
-        "Hampton",
-        "Hardy",
-        "Harmon",
-        "Harrington",
-        "Haynes",
-        "Higgins",
-        "Hines",
-        "Hodges",
-        "Hogan",
-        "Holloway",
-        "Houston",
-        "Hubbard",
-        "Huff",
-        "Ingram",
-        "Jefferson",
-        "Joseph",
-        "Keller",
-        "Klein",
-        "Lamb",
-        "Leonard",
-        "Lindsey",
-        "Lloyd",
-        "Logan",
-        "Love",
-        "Luna",
-        "Lyons",
-        "Mack",
-        "Maldonado",
-        "Malone",
-        "Mann",
-        "Manning",
-        "Marsh",
-        "Massey",
-        "Mathis",
-        "Maxwell",
-        "McBride",
-        "McCarthy",
-        "McCormick",
-        "McDaniel",
-        "McGee",
-        "McGuire",
-        "McKenzie",
-        "McLaughlin",
-        "Mendez",
-        "Moody",
-        "Moran",
-        "Morton",
-        "Moss",
-        "Mullins",
-        "Munoz",
-        "Nash",
-        "Newton",
-        "Norman",
-        "Norris",
-        "Norton",
-        "Nunez",
-        "Ortega",
-        "Osborne",
-        "Owen",
-        "Padilla",
-        "Page",
-        "Park",
-        "Parks",
-        "Parsons",
-        "Patrick",
-        "Patton",
-        "Paul",
-        "Phelps",
-        "Pittman",
-        "Poole",
-        "Pope",
-        "Potter",
-        "Powers",
-        "Pratt",
-        "Quinn",
-        "Ramsey",
-        "Reese",
-        "Reeves",
-        "Rios",
-        "Robbins",
-        "Roberson",
-        "Rodgers",
-        "Rowe",
-        "Roy",
-        "Salazar",
-        "Sandoval",
-        "Santiago",
-        "Santos",
-        "Saunders",
-        "Schneider",
-        "Schultz",
-        "Schwartz",
-        "Sharp",
-        "Sherman",
-        "Simon",
-        "Singleton",
-        "Sparks",
-        "Steele",
-        "Stevenson",
-        "Stokes",
-        "Strickland",
-        "Summers",
-        "Swanson",
-        "Tate",
-        "Thornton",
-        "Todd",
-        "Townsend",
-        "Tran",
-        "Tyler",
-        "Underwood",
-        "Valdez",
-        "Vaughn",
-        "Vega",
-        "Walsh",
-        "Walton",
-        "Warner",
-        "Waters",
-        "Weber",
-        "Webster",
-        "Wilkerson",
-        "Wilkins",
-        "Wise",
-        "Wolfe",
-        "Wong",
-        "Yates",
-        "Zimmerman"
-    };
+    public final static NameList NAMES =
+            NameDictionary.load(EnglishLastName.class, "names.txt", "last");
 }
@@ -22,1011 +22,15 @@
  */
 package br.com.fidias.chance4j.person.name.it;
 
+import br.com.fidias.chance4j.person.name.NameDictionary;
+import br.com.fidias.chance4j.person.name.NameList;
+
 /**
  *
  * @author atila
  */
 public class ItalianLastName {
 
-    public final static String[] NAMES = new String[]{
-        "Acciai",
-        "Aglietti",
-        "Agostini",
-        "Agresti",
-        "Ahmed",
-        "Aiazzi",
-        "Albanese",
-        "Alberti",
-        "Alessi",
-        "Alfani",
-        "Alinari",
-        "Alterini",
-        "Amato",
-        "Ammannati",
-        "Ancillotti",
-        "Andrei",
-        "Andreini",
-        "Andreoni",
-        "Angeli",
-        "Anichini",
-        "Antonelli",
-        "Antonini",
-        "Arena",
-        "Ariani",
-        "Arnetoli",
-        "Arrighi",
-        "Baccani",
-        "Baccetti",
-        "Bacci",
-        "Bacherini",
-        "Badii",
-        "Baggiani",
-        "Baglioni",
-        "Bagni",
-        "Bagnoli",
-        "Baldassini",
-        "Baldi",
-        "Baldini",
-        "Ballerini",
-        "Balli",
-        "Ballini",
-        "Balloni",
-        "Bambi",
-        "Banchi",
-        "Bandinelli",
-        "Bandini",
-        "Bani",
-        "Barbetti",
-        "Barbieri",
-        "Barchielli",
-        "Bardazzi",
-        "Bardelli",
-        "Bardi",
-        "Barducci",
-        "Bargellini",
-        "Bargiacchi",
-        "Barni",
-        "Baroncelli",
-        "Baroncini",
-        "Barone",
-        "Baroni",
-        "Baronti",
-        "Bartalesi",
-        "Bartoletti",
-        "Bartoli",
-        "Bartolini",
-        "Bartoloni",
-        "Bartolozzi",
-        "Basagni",
-        "Basile",
-        "Bassi",
-        "Batacchi",
-        "Battaglia",
-        "Battaglini",
-        "Bausi",
-        "Becagli",
-        "Becattini",
-        "Becchi",
-        "Becucci",
-        "Bellandi",
-        "Bellesi",
-        "Belli",
-        "Bellini",
-        "Bellucci",
-        "Bencini",
-        "Benedetti",
-        "Benelli",
-        "Beni",
-        "Benini",
-        "Bensi",
-        "Benucci",
-        "Benvenuti",
-        "Berlincioni",
-        "Bernacchioni",
-        "Bernardi",
-        "Bernardini",
-        "Berni",
-        "Bernini",
-        "Bertelli",
-        "Berti",
-        "Bertini",
-        "Bessi",
-        "Betti",
-        "Bettini",
-        "Biagi",
-        "Biagini",
-        "Biagioni",
-        "Biagiotti",
-        "Biancalani",
-        "Bianchi",
-        "Bianchini",
-        "Bianco",
-        "Biffoli",
-        "Bigazzi",
-        "Bigi",
-        "Biliotti",
-        "Billi",
-        "Binazzi",
-        "Bindi",
-        "Bini",
-        "Biondi",
-        "Bizzarri",
-        "Bocci",
-        "Bogani",
-        "Bolognesi",
-        "Bonaiuti",
-        "Bonanni",
-        "Bonciani",
-        "Boncinelli",
-        "Bondi",
-        "Bonechi",
-        "Bongini",
-        "Boni",
-        "Bonini",
-        "Borchi",
-        "Boretti",
-        "Borghi",
-        "Borghini",
-        "Borgioli",
-        "Borri",
-        "Borselli",
-        "Boschi",
-        "Bottai",
-        "Bracci",
-        "Braccini",
-        "Brandi",
-        "Braschi",
-        "Bravi",
-        "Brazzini",
-        "Breschi",
-        "Brilli",
-        "Brizzi",
-        "Brogelli",
-        "Brogi",
-        "Brogioni",
-        "Brunelli",
-        "Brunetti",
-        "Bruni",
-        "Bruno",
-        "Brunori",
-        "Bruschi",
-        "Bucci",
-        "Bucciarelli",
-        "Buccioni",
-        "Bucelli",
-        "Bulli",
-        "Burberi",
-        "Burchi",
-        "Burgassi",
-        "Burroni",
-        "Bussotti",
-        "Buti",
-        "Caciolli",
-        "Caiani",
-        "Calabrese",
-        "Calamai",
-        "Calamandrei",
-        "Caldini",
-        "Calo'",
-        "Calonaci",
-        "Calosi",
-        "Calvelli",
-        "Cambi",
-        "Camiciottoli",
-        "Cammelli",
-        "Cammilli",
-        "Campolmi",
-        "Cantini",
-        "Capanni",
-        "Capecchi",
-        "Caponi",
-        "Cappelletti",
-        "Cappelli",
-        "Cappellini",
-        "Cappugi",
-        "Capretti",
-        "Caputo",
-        "Carbone",
-        "Carboni",
-        "Cardini",
-        "Carlesi",
-        "Carletti",
-        "Carli",
-        "Caroti",
-        "Carotti",
-        "Carrai",
-        "Carraresi",
-        "Carta",
-        "Caruso",
-        "Casalini",
-        "Casati",
-        "Caselli",
-        "Casini",
-        "Castagnoli",
-        "Castellani",
-        "Castelli",
-        "Castellucci",
-        "Catalano",
-        "Catarzi",
-        "Catelani",
-        "Cavaciocchi",
-        "Cavallaro",
-        "Cavallini",
-        "Cavicchi",
-        "Cavini",
-        "Ceccarelli",
-        "Ceccatelli",
-        "Ceccherelli",
-        "Ceccherini",
-        "Cecchi",
-        "Cecchini",
-        "Cecconi",
-        "Cei",
-        "Cellai",
-        "Celli",
-        "Cellini",
-        "Cencetti",
-        "Ceni",
-        "Cenni",
-        "Cerbai",
-        "Cesari",
-        "Ceseri",
-        "Checcacci",
-        "Checchi",
-        "Checcucci",
-        "Cheli",
-        "Chellini",
-        "Chen",
-        "Cheng",
-        "Cherici",
-        "Cherubini",
-        "Chiaramonti",
-        "Chiarantini",
-        "Chiarelli",
-        "Chiari",
-        "Chiarini",
-        "Chiarugi",
-        "Chiavacci",
-        "Chiesi",
-        "Chimenti",
-        "Chini",
-        "Chirici",
-        "Chiti",
-        "Ciabatti",
-        "Ciampi",
-        "Cianchi",
-        "Cianfanelli",
-        "Cianferoni",
-        "Ciani",
-        "Ciapetti",
-        "Ciappi",
-        "Ciardi",
-        "Ciatti",
-        "Cicali",
-        "Ciccone",
-        "Cinelli",
-        "Cini",
-        "Ciobanu",
-        "Ciolli",
-        "Cioni",
-        "Cipriani",
-        "Cirillo",
-        "Cirri",
-        "Ciucchi",
-        "Ciuffi",
-        "Ciulli",
-        "Ciullini",
-        "Clemente",
-        "Cocchi",
-        "Cognome",
-        "Coli",
-        "Collini",
-        "Colombo",
-        "Colzi",
-        "Comparini",
-        "Conforti",
-        "Consigli",
-        "Conte",
-        "Conti",
-        "Contini",
-        "Coppini",
-        "Coppola",
-        "Corsi",
-        "Corsini",
-        "Corti",
-        "Cortini",
-        "Cosi",
-        "Costa",
-        "Costantini",
-        "Costantino",
-        "Cozzi",
-        "Cresci",
-        "Crescioli",
-        "Cresti",
-        "Crini",
-        "Curradi",
-        "D'Agostino",
-        "D'Alessandro",
-        "D'Amico",
-        "D'Angelo",
-        "Daddi",
-        "Dainelli",
-        "Dallai",
-        "Danti",
-        "Davitti",
-        "De Angelis",
-        "De Luca",
-        "De Marco",
-        "De Rosa",
-        "De Santis",
-        "De Simone",
-        "De Vita",
-        "Degl'Innocenti",
-        "Degli Innocenti",
-        "Dei",
-        "Del Lungo",
-        "Del Re",
-        "Di Marco",
-        "Di Stefano",
-        "Dini",
-        "Diop",
-        "Dobre",
-        "Dolfi",
-        "Donati",
-        "Dondoli",
-        "Dong",
-        "Donnini",
-        "Ducci",
-        "Dumitru",
-        "Ermini",
-        "Esposito",
-        "Evangelisti",
-        "Fabbri",
-        "Fabbrini",
-        "Fabbrizzi",
-        "Fabbroni",
-        "Fabbrucci",
-        "Fabiani",
-        "Facchini",
-        "Faggi",
-        "Fagioli",
-        "Failli",
-        "Faini",
-        "Falciani",
-        "Falcini",
-        "Falcone",
-        "Fallani",
-        "Falorni",
-        "Falsini",
-        "Falugiani",
-        "Fancelli",
-        "Fanelli",
-        "Fanetti",
-        "Fanfani",
-        "Fani",
-        "Fantappie'",
-        "Fantechi",
-        "Fanti",
-        "Fantini",
-        "Fantoni",
-        "Farina",
-        "Fattori",
-        "Favilli",
-        "Fedi",
-        "Fei",
-        "Ferrante",
-        "Ferrara",
-        "Ferrari",
-        "Ferraro",
-        "Ferretti",
-        "Ferri",
-        "Ferrini",
-        "Ferroni",
-        "Fiaschi",
-        "Fibbi",
-        "Fiesoli",
-        "Filippi",
-        "Filippini",
-        "Fini",
-        "Fioravanti",
-        "Fiore",
-        "Fiorentini",
-        "Fiorini",
-        "Fissi",
-        "Focardi",
-        "Foggi",
-        "Fontana",
-        "Fontanelli",
-        "Fontani",
-        "Forconi",
-        "Formigli",
-        "Forte",
-        "Forti",
-        "Fortini",
-        "Fossati",
-        "Fossi",
-        "Francalanci",
-        "Franceschi",
-        "Franceschini",
-        "Franchi",
-        "Franchini",
-        "Franci",
-        "Francini",
-        "Francioni",
-        "Franco",
-        "Frassineti",
-        "Frati",
-        "Fratini",
-        "Frilli",
-        "Frizzi",
-        "Frosali",
-        "Frosini",
-        "Frullini",
-        "Fusco",
-        "Fusi",
-        "Gabbrielli",
-        "Gabellini",
-        "Gagliardi",
-        "Galanti",
-        "Galardi",
-        "Galeotti",
-        "Galletti",
-        "Galli",
-        "Gallo",
-        "Gallori",
-        "Gambacciani",
-        "Gargani",
-        "Garofalo",
-        "Garuglieri",
-        "Gashi",
-        "Gasperini",
-        "Gatti",
-        "Gelli",
-        "Gensini",
-        "Gentile",
-        "Gentili",
-        "Geri",
-        "Gerini",
-        "Gheri",
-        "Ghini",
-        "Giachetti",
-        "Giachi",
-        "Giacomelli",
-        "Gianassi",
-        "Giani",
-        "Giannelli",
-        "Giannetti",
-        "Gianni",
-        "Giannini",
-        "Giannoni",
-        "Giannotti",
-        "Giannozzi",
-        "Gigli",
-        "Giordano",
-        "Giorgetti",
-        "Giorgi",
-        "Giovacchini",
-        "Giovannelli",
-        "Giovannetti",
-        "Giovannini",
-        "Giovannoni",
-        "Giuliani",
-        "Giunti",
-        "Giuntini",
-        "Giusti",
-        "Gonnelli",
-        "Goretti",
-        "Gori",
-        "Gradi",
-        "Gramigni",
-        "Grassi",
-        "Grasso",
-        "Graziani",
-        "Grazzini",
-        "Greco",
-        "Grifoni",
-        "Grillo",
-        "Grimaldi",
-        "Grossi",
-        "Gualtieri",
-        "Guarducci",
-        "Guarino",
-        "Guarnieri",
-        "Guasti",
-        "Guerra",
-        "Guerri",
-        "Guerrini",
-        "Guidi",
-        "Guidotti",
-        "He",
-        "Hoxha",
-        "Hu",
-        "Huang",
-        "Iandelli",
-        "Ignesti",
-        "Innocenti",
-        "Jin",
-        "La Rosa",
-        "Lai",
-        "Landi",
-        "Landini",
-        "Lanini",
-        "Lapi",
-        "Lapini",
-        "Lari",
-        "Lascialfari",
-        "Lastrucci",
-        "Latini",
-        "Lazzeri",
-        "Lazzerini",
-        "Lelli",
-        "Lenzi",
-        "Leonardi",
-        "Leoncini",
-        "Leone",
-        "Leoni",
-        "Lepri",
-        "Li",
-        "Liao",
-        "Lin",
-        "Linari",
-        "Lippi",
-        "Lisi",
-        "Livi",
-        "Lombardi",
-        "Lombardini",
-        "Lombardo",
-        "Longo",
-        "Lopez",
-        "Lorenzi",
-        "Lorenzini",
-        "Lorini",
-        "Lotti",
-        "Lu",
-        "Lucchesi",
-        "Lucherini",
-        "Lunghi",
-        "Lupi",
-        "Madiai",
-        "Maestrini",
-        "Maffei",
-        "Maggi",
-        "Maggini",
-        "Magherini",
-        "Magini",
-        "Magnani",
-        "Magnelli",
-        "Magni",
-        "Magnolfi",
-        "Magrini",
-        "Malavolti",
-        "Malevolti",
-        "Manca",
-        "Mancini",
-        "Manetti",
-        "Manfredi",
-        "Mangani",
-        "Mannelli",
-        "Manni",
-        "Mannini",
-        "Mannucci",
-        "Manuelli",
-        "Manzini",
-        "Marcelli",
-        "Marchese",
-        "Marchetti",
-        "Marchi",
-        "Marchiani",
-        "Marchionni",
-        "Marconi",
-        "Marcucci",
-        "Margheri",
-        "Mari",
-        "Mariani",
-        "Marilli",
-        "Marinai",
-        "Marinari",
-        "Marinelli",
-        "Marini",
-        "Marino",
-        "Mariotti",
-        "Marsili",
-        "Martelli",
-        "Martinelli",
-        "Martini",
-        "Martino",
-        "Marzi",
-        "Masi",
-        "Masini",
-        "Masoni",
-        "Massai",
-        "Materassi",
-        "Mattei",
-        "Matteini",
-        "Matteucci",
-        "Matteuzzi",
-        "Mattioli",
-        "Mattolini",
-        "Matucci",
-        "Mauro",
-        "Mazzanti",
-        "Mazzei",
-        "Mazzetti",
-        "Mazzi",
-        "Mazzini",
-        "Mazzocchi",
-        "Mazzoli",
-        "Mazzoni",
-        "Mazzuoli",
-        "Meacci",
-        "Mecocci",
-        "Meini",
-        "Melani",
-        "Mele",
-        "Meli",
-        "Mengoni",
-        "Menichetti",
-        "Meoni",
-        "Merlini",
-        "Messeri",
-        "Messina",
-        "Meucci",
-        "Miccinesi",
-        "Miceli",
-        "Micheli",
-        "Michelini",
-        "Michelozzi",
-        "Migliori",
-        "Migliorini",
-        "Milani",
-        "Miniati",
-        "Misuri",
-        "Monaco",
-        "Montagnani",
-        "Montagni",
-        "Montanari",
-        "Montelatici",
-        "Monti",
-        "Montigiani",
-        "Montini",
-        "Morandi",
-        "Morandini",
-        "Morelli",
-        "Moretti",
-        "Morganti",
-        "Mori",
-        "Morini",
-        "Moroni",
-        "Morozzi",
-        "Mugnai",
-        "Mugnaini",
-        "Mustafa",
-        "Naldi",
-        "Naldini",
-        "Nannelli",
-        "Nanni",
-        "Nannini",
-        "Nannucci",
-        "Nardi",
-        "Nardini",
-        "Nardoni",
-        "Natali",
-        "Ndiaye",
-        "Nencetti",
-        "Nencini",
-        "Nencioni",
-        "Neri",
-        "Nesi",
-        "Nesti",
-        "Niccolai",
-        "Niccoli",
-        "Niccolini",
-        "Nigi",
-        "Nistri",
-        "Nocentini",
-        "Noferini",
-        "Novelli",
-        "Nucci",
-        "Nuti",
-        "Nutini",
-        "Oliva",
-        "Olivieri",
-        "Olmi",
-        "Orlandi",
-        "Orlandini",
-        "Orlando",
-        "Orsini",
-        "Ortolani",
-        "Ottanelli",
-        "Pacciani",
-        "Pace",
-        "Paci",
-        "Pacini",
-        "Pagani",
-        "Pagano",
-        "Paggetti",
-        "Pagliai",
-        "Pagni",
-        "Pagnini",
-        "Paladini",
-        "Palagi",
-        "Palchetti",
-        "Palloni",
-        "Palmieri",
-        "Palumbo",
-        "Pampaloni",
-        "Pancani",
-        "Pandolfi",
-        "Pandolfini",
-        "Panerai",
-        "Panichi",
-        "Paoletti",
-        "Paoli",
-        "Paolini",
-        "Papi",
-        "Papini",
-        "Papucci",
-        "Parenti",
-        "Parigi",
-        "Parisi",
-        "Parri",
-        "Parrini",
-        "Pasquini",
-        "Passeri",
-        "Pecchioli",
-        "Pecorini",
-        "Pellegrini",
-        "Pepi",
-        "Perini",
-        "Perrone",
-        "Peruzzi",
-        "Pesci",
-        "Pestelli",
-        "Petri",
-        "Petrini",
-        "Petrucci",
-        "Pettini",
-        "Pezzati",
-        "Pezzatini",
-        "Piani",
-        "Piazza",
-        "Piazzesi",
-        "Piazzini",
-        "Piccardi",
-        "Picchi",
-        "Piccini",
-        "Piccioli",
-        "Pieraccini",
-        "Pieraccioni",
-        "Pieralli",
-        "Pierattini",
-        "Pieri",
-        "Pierini",
-        "Pieroni",
-        "Pietrini",
-        "Pini",
-        "Pinna",
-        "Pinto",
-        "Pinzani",
-        "Pinzauti",
-        "Piras",
-        "Pisani",
-        "Pistolesi",
-        "Poggesi",
-        "Poggi",
-        "Poggiali",
-        "Poggiolini",
-        "Poli",
-        "Pollastri",
-        "Porciani",
-        "Pozzi",
-        "Pratellesi",
-        "Pratesi",
-        "Prosperi",
-        "Pruneti",
-        "Pucci",
-        "Puccini",
-        "Puccioni",
-        "Pugi",
-        "Pugliese",
-        "Puliti",
-        "Querci",
-        "Quercioli",
-        "Raddi",
-        "Radu",
-        "Raffaelli",
-        "Ragazzini",
-        "Ranfagni",
-        "Ranieri",
-        "Rastrelli",
-        "Raugei",
-        "Raveggi",
-        "Renai",
-        "Renzi",
-        "Rettori",
-        "Ricci",
-        "Ricciardi",
-        "Ridi",
-        "Ridolfi",
-        "Rigacci",
-        "Righi",
-        "Righini",
-        "Rinaldi",
-        "Risaliti",
-        "Ristori",
-        "Rizzo",
-        "Rocchi",
-        "Rocchini",
-        "Rogai",
-        "Romagnoli",
-        "Romanelli",
-        "Romani",
-        "Romano",
-        "Romei",
-        "Romeo",
-        "Romiti",
-        "Romoli",
-        "Romolini",
-        "Rontini",
-        "Rosati",
-        "Roselli",
-        "Rosi",
-        "Rossetti",
-        "Rossi",
-        "Rossini",
-        "Rovai",
-        "Ruggeri",
-        "Ruggiero",
-        "Russo",
-        "Sabatini",
-        "Saccardi",
-        "Sacchetti",
-        "Sacchi",
-        "Sacco",
-        "Salerno",
-        "Salimbeni",
-        "Salucci",
-        "Salvadori",
-        "Salvestrini",
-        "Salvi",
-        "Salvini",
-        "Sanesi",
-        "Sani",
-        "Sanna",
-        "Santi",
-        "Santini",
-        "Santoni",
-        "Santoro",
-        "Santucci",
-        "Sardi",
-        "Sarri",
-        "Sarti",
-        "Sassi",
-        "Sbolci",
-        "Scali",
-        "Scarpelli",
-        "Scarselli",
-        "Scopetani",
-        "Secci",
-        "Selvi",
-        "Senatori",
-        "Senesi",
-        "Serafini",
-        "Sereni",
-        "Serra",
-        "Sestini",
-        "Sguanci",
-        "Sieni",
-        "Signorini",
-        "Silvestri",
-        "Simoncini",
-        "Simonetti",
-        "Simoni",
-        "Singh",
-        "Sodi",
-        "Soldi",
-        "Somigli",
-        "Sorbi",
-        "Sorelli",
-        "Sorrentino",
-        "Sottili",
-        "Spina",
-        "Spinelli",
-        "Staccioli",
-        "Staderini",
-        "Stefanelli",
-        "Stefani",
-        "Stefanini",
-        "Stella",
-        "Susini",
-        "Tacchi",
-        "Tacconi",
-        "Taddei",
-        "Tagliaferri",
-        "Tamburini",
-        "Tanganelli",
-        "Tani",
-        "Tanini",
-        "Tapinassi",
-        "Tarchi",
-        "Tarchiani",
-        "Targioni",
-        "Tassi",
-        "Tassini",
-        "Tempesti",
-        "Terzani",
-        "Tesi",
-        "Testa",
-        "Testi",
-        "Tilli",
-        "Tinti",
-        "Tirinnanzi",
-        "Toccafondi",
-        "Tofanari",
-        "Tofani",
-        "Tognaccini",
-        "Tonelli",
-        "Tonini",
-        "Torelli",
-        "Torrini",
-        "Tosi",
-        "Toti",
-        "Tozzi",
-        "Trambusti",
-        "Trapani",
-        "Tucci",
-        "Turchi",
-        "Ugolini",
-        "Ulivi",
-        "Valente",
-        "Valenti",
-        "Valentini",
-        "Vangelisti",
-        "Vanni",
-        "Vannini",
-        "Vannoni",
-        "Vannozzi",
-        "Vannucchi",
-        "Vannucci",
-        "Ventura",
-        "Venturi",
-        "Venturini",
-        "Vestri",
-        "Vettori",
-        "Vichi",
-        "Viciani",
-        "Vieri",
-        "Vigiani",
-        "Vignoli",
-        "Vignolini",
-        "Vignozzi",
-        "Villani",
-        "Vinci",
-        "Visani",
-        "Vitale",
-        "Vitali",
-        "Viti",
-        "Viviani",
-        "Vivoli",
-        "Volpe",
-        "Volpi",
-        "Wang",
-        "Wu",
-        "Xu",
-        "Yang",
-        "Ye",
-        "Zagli",
-        "Zani",
-        "Zanieri",
-        "Zanobini",
-        "Zecchi",
-        "Zetti",
-        "Zhang",
-        "Zheng",
-        "Zhou",
-        "Zhu",
-        "Zingoni",
-        "Zini",
-        "Zoppi"
-    };
+    public final static NameList NAMES =
+            NameDictionary.load(ItalianLastName.class, "names.txt", "last");
 }
@@ -0,0 +1,149 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.prefetch;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.Generator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Values of a generator produced ahead of time by the refill thread of a
+ * {@link PrefetchingChance}. Thread safe.
+ *
+ * A generator that throws, or returns null, on the refill thread stops the
+ * prefetching for good: once the values already in the buffer are taken,
+ * {@link #next()} throws a {@link ChanceException} with the original error
+ * as its cause, also available from {@link #getFailure()}.
+ *
+ * @param <T> Type of the generated values
+ * @author atila
+ * @see PrefetchingChance#prefetch(br.com.fidias.chance4j.Generator, int)
+ */
+public final class PrefetchedGenerator<T> {
+
+    private final PrefetchingChance owner;
+    private final Generator<T> generator;
+    private final RingBuffer<T> buffer;
+    private final int lowWater;
+    private final LongAdder underflows = new LongAdder();
+    private volatile Exception failure;
+
+    PrefetchedGenerator(PrefetchingChance owner, Generator<T> generator, int capacity) {
+        this.owner = owner;
+        this.generator = generator;
+        this.buffer = new RingBuffer<>(capacity);
+        this.lowWater = buffer.capacity() / 2;
+    }
+
+    /**
+     * Return a prefetched value. When the buffer is empty the value is
+     * generated by the calling thread and an underflow is counted, so this
+     * method never waits for the refill thread.
+     *
+     * @return A random value
+     * @throws ChanceException if the buffer is empty and the generator
+     * failed on the refill thread, or fails now
+     */
+    public T next() throws ChanceException {
+        T value = buffer.poll();
+        if (value == null) {
+            Exception cause = failure;
+            if (cause != null) {
+                throw new ChanceException("Prefetching stopped, the generator failed.", cause);
+            }
+            underflows.increment();
+            owner.wakeUp();
+            return generator.generate(owner.fallback());
+        }
+        if (buffer.size() < lowWater) {
+            owner.wakeUp();
+        }
+        return value;
+    }
+
+    /**
+     * @return Number of values ready to be taken
+     */
+    public int fillLevel() {
+        return buffer.size();
+    }
+
+    /**
+     * @return Size of the buffer, the requested capacity rounded up to a
+     * power of two
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * @return Number of calls that found the buffer empty
+     */
+    public long underflows() {
+        return underflows.sum();
+    }
+
+    /**
+     * @return True if the generator failed on the refill thread, which no
+     * longer refills this buffer
+     */
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * @return The error that stopped the prefetching, or null
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    boolean needsRefill() {
+        return failure == null && buffer.size() < lowWater;
+    }
+
+    /**
+     * Fill the buffer up. If the generator fails, or returns null, the
+     * buffer is no longer refilled and the error is kept for the callers.
+     */
+    void refill(Chance source) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            while (buffer.size() < buffer.capacity()) {
+                T value = generator.generate(source);
+                if (value == null) {
+                    failure = new ChanceException("Generator returned null.");
+                    return;
+                }
+                if (!buffer.offer(value)) {
+                    return;
+                }
+            }
+        } catch (ChanceException | RuntimeException ex) {
+            failure = ex;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.prefetch;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.Generator;
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generates values ahead of time on a background thread, so threads on a
+ * latency sensitive path only take them from a lock-free buffer.
+ * <pre>
+ * PrefetchingChance prefetching = new PrefetchingChance(new Chance());
+ * PrefetchedGenerator&lt;Integer&gt; integers = prefetching.prefetch(Chance::integer, 4096);
+ * PrefetchedGenerator&lt;String&gt; names = prefetching.prefetch(Chance::name, 1024);
+ * int value = integers.next();
+ * </pre>
+ *
+ * The source Chance is only used by the refill thread. A buffer is filled
+ * up when it is less than half full, and while no buffer is the thread
+ * stays parked until a call takes one below half. Calls that find a buffer
+ * empty generate the value themselves with a thread local Chance and count
+ * an underflow, so
+ * use {@link PrefetchedGenerator#underflows()} and
+ * {@link PrefetchedGenerator#fillLevel()} to size the buffers.
+ *
+ * The order in which threads get the values is not defined, so prefetched
+ * values are not reproducible even with a seeded source.
+ *
+ * @author atila
+ */
+public final class PrefetchingChance implements Closeable {
+
+    private final Chance source;
+    private final Chance fallback = Chance.threadLocal();
+    private final List<PrefetchedGenerator<?>> generators = new CopyOnWriteArrayList<>();
+    private final Thread refiller;
+    private volatile boolean running = true;
+    private volatile boolean sleeping;
+
+    /**
+     * Create the decorator and start its refill thread, a daemon.
+     *
+     * @param source Source of the prefetched values, not to be used by
+     * other threads
+     */
+    public PrefetchingChance(Chance source) {
+        this.source = source;
+        this.refiller = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                refill();
+            }
+        }, "chance4j-prefetch");
+        refiller.setDaemon(true);
+        refiller.start();
+    }
+
+    /**
+     * Keep a buffer of values of the generator.
+     *
+     * @param <T> Type of the generated values
+     * @param generator Generator of the values, called by the refill thread
+     * @param capacity Number of values to keep, rounded up to a power of two
+     * @return The prefetched generator
+     * @throws ChanceException
+     */
+    public <T> PrefetchedGenerator<T> prefetch(Generator<T> generator, int capacity)
+            throws ChanceException {
+        if (capacity < 1) {
+            throw new ChanceException("Capacity cannot be less than one.");
+        }
+        if (!running) {
+            throw new ChanceException("PrefetchingChance is closed.");
+        }
+        PrefetchedGenerator<T> prefetched = new PrefetchedGenerator<>(this, generator, capacity);
+        generators.add(prefetched);
+        LockSupport.unpark(refiller);
+        return prefetched;
+    }
+
+    /**
+     * Stop the refill thread. Values left in the buffers can still be
+     * taken, and then every call generates its own value.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(refiller);
+        try {
+            refiller.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    Chance fallback() {
+        return fallback;
+    }
+
+    void wakeUp() {
+        if (sleeping) {
+            LockSupport.unpark(refiller);
+        }
+    }
+
+    /**
+     * Park until a buffer drops below half full. A call that takes it below
+     * half after the check sees the flag set, so it unparks the thread and
+     * the park returns right away.
+     */
+    private void refill() {
+        while (running) {
+            sleeping = true;
+            if (!needsRefill()) {
+                LockSupport.park(this);
+            }
+            sleeping = false;
+            for (PrefetchedGenerator<?> generator : generators) {
+                if (generator.needsRefill()) {
+                    generator.refill(source);
+                }
+            }
+        }
+    }
+
+    private boolean needsRefill() {
+        for (PrefetchedGenerator<?> generator : generators) {
+            if (generator.needsRefill()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+/**
+ * Derives every method of {@link RandomEngine} from {@link #nextLong()}.
+ *
+ * Bounded values are unbiased: ints use Lemire's multiply-shift method and
+ * longs use the rejection loop of {@link java.util.SplittableRandom}.
+ *
+ * @author atila
+ */
+public abstract class AbstractRandomEngine implements RandomEngine {
+
+    private static final long INT_MASK = 0xFFFFFFFFL;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override
+    public int nextInt(int min, int max) {
+        long range = (long) max - min + 1;
+        long value = nextInt() & INT_MASK;
+        long product = value * range;
+        long low = product & INT_MASK;
+        if (low < range) {
+            long threshold = (1L << 32) % range;
+            while (low < threshold) {
+                value = nextInt() & INT_MASK;
+                product = value * range;
+                low = product & INT_MASK;
+            }
+        }
+        return (int) (min + (product >>> 32));
+    }
+
+    @Override
+    public long nextLong(long min, long max) {
+        long range = max - min + 1;
+        if (range == 0) {
+            // full long range
+            return nextLong();
+        }
+        if (range < 0) {
+            // range wider than Long.MAX_VALUE
+            long value;
+            do {
+                value = nextLong();
+            } while (value < min || value > max);
+            return value;
+        }
+        return min + nextBoundedLong(range);
+    }
+
+    @Override
+    public void nextInts(int[] dst, int min, int max) {
+        final long range = (long) max - min + 1;
+        final long threshold = (1L << 32) % range;
+        for (int i = 0; i < dst.length; i++) {
+            long product = (nextInt() & INT_MASK) * range;
+            while ((product & INT_MASK) < threshold) {
+                product = (nextInt() & INT_MASK) * range;
+            }
+            dst[i] = (int) (min + (product >>> 32));
+        }
+    }
+
+    @Override
+    public void nextLongs(long[] dst, long min, long max) {
+        final long range = max - min + 1;
+        if (range <= 0) {
+            for (int i = 0; i < dst.length; i++) {
+                dst[i] = nextLong(min, max);
+            }
+            return;
+        }
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = min + nextBoundedLong(range);
+        }
+    }
+
+    /**
+     * Return a uniformly distributed long between 0 (inclusive) and bound
+     * (exclusive).
+     *
+     * @param bound Must be greater than zero
+     * @return A uniformly distributed long
+     */
+    protected long nextBoundedLong(long bound) {
+        long mask = bound - 1;
+        long value = nextLong() >>> 1;
+        if ((bound & mask) == 0) {
+            return value & mask;
+        }
+        long result = value % bound;
+        while (value + mask - result < 0) {
+            value = nextLong() >>> 1;
+            result = value % bound;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+import br.com.fidias.chance4j.ChanceException;
+
+/**
+ * Walker's alias table, built with Vose's method, to draw an index with
+ * probability proportional to its weight in constant time. Building it
+ * takes linear time, so build once and draw many times. Immutable and thread
+ * safe.
+ * <pre>
+ * AliasTable table = AliasTable.of(new double[]{1, 2, 7});
+ * table.next(engine);
+ * => 2
+ * </pre>
+ *
+ * @author atila
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    private AliasTable(double[] probability, int[] alias) {
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Build a table from weights, which need not sum to one.
+     *
+     * @param weights Weight of each index
+     * @return A new table
+     * @throws ChanceException if a weight is negative or not finite, or all
+     * weights are zero
+     */
+    public static AliasTable of(double[] weights) throws ChanceException {
+        final int n = weights.length;
+        double sum = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new ChanceException("Weights must be finite and not negative.");
+            }
+            sum += weight;
+        }
+        if (!(sum > 0) || Double.isInfinite(sum)) {
+            throw new ChanceException("No valid entries in array weights.");
+        }
+
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        // scaled so the average is one; small and large are used as stacks
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallSize = 0, largeSize = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // what is left is one, give or take rounding errors
+        while (largeSize > 0) {
+            probability[large[--largeSize]] = 1;
+        }
+        while (smallSize > 0) {
+            probability[small[--smallSize]] = 1;
+        }
+        return new AliasTable(probability, alias);
+    }
+
+    /**
+     * @return Number of indexes
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Draw an index.
+     *
+     * @param random Source of randomness
+     * @return An index, from 0 to size - 1
+     */
+    public int next(RandomEngine random) {
+        int column = random.nextInt(0, probability.length - 1);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+}
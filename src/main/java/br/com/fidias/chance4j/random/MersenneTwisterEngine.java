@@ -0,0 +1,72 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+import org.apache.commons.math3.random.MersenneTwister;
+
+/**
+ * Engine backed by the Mersenne Twister (MT19937) of Apache Commons Math.
+ *
+ * The Mersenne Twister is a pseudorandom number generator (PRNG). It is by
+ * far the most widely used general-purpose PRNG. Its name derives from the
+ * fact that its period length is chosen to be a Mersenne prime.
+ *
+ * @author atila
+ */
+public class MersenneTwisterEngine extends AbstractRandomEngine {
+
+    private final MersenneTwister random;
+
+    public MersenneTwisterEngine(long seed) {
+        this.random = new MersenneTwister(seed);
+    }
+
+    public MersenneTwisterEngine() {
+        this(Seeds.next());
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Override
+    public MersenneTwisterEngine split() {
+        return new MersenneTwisterEngine(nextLong());
+    }
+}
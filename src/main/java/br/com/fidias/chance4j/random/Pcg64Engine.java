@@ -0,0 +1,98 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+/**
+ * PCG64 generator by Melissa O'Neill: a 128 bit linear congruential generator
+ * with the XSL-RR output permutation (pcg_setseq_128_xsl_rr_64).
+ *
+ * The 128 bit state and increment are kept as pairs of longs.
+ *
+ * @author atila
+ */
+public class Pcg64Engine extends AbstractRandomEngine {
+
+    private static final long MULTIPLIER_HIGH = 0x2360ED051FC65DA4L;
+    private static final long MULTIPLIER_LOW = 0x4385DF649FCCF645L;
+
+    private long stateHigh, stateLow;
+    private final long incrementHigh, incrementLow;
+
+    public Pcg64Engine(long seed) {
+        SplitMix64Engine seeder = new SplitMix64Engine(seed);
+        long initHigh = seeder.nextLong();
+        long initLow = seeder.nextLong();
+        long sequenceHigh = seeder.nextLong();
+        long sequenceLow = seeder.nextLong();
+        // increment = (sequence << 1) | 1, it must be odd
+        this.incrementHigh = (sequenceHigh << 1) | (sequenceLow >>> 63);
+        this.incrementLow = (sequenceLow << 1) | 1;
+        this.stateHigh = 0;
+        this.stateLow = 0;
+        step();
+        long low = stateLow + initLow;
+        stateHigh += initHigh + (Long.compareUnsigned(low, stateLow) < 0 ? 1 : 0);
+        stateLow = low;
+        step();
+    }
+
+    public Pcg64Engine() {
+        this(Seeds.next());
+    }
+
+    /**
+     * state = state * MULTIPLIER + increment (mod 2^128)
+     */
+    private void step() {
+        long high = multiplyHighUnsigned(stateLow, MULTIPLIER_LOW)
+                + stateLow * MULTIPLIER_HIGH + stateHigh * MULTIPLIER_LOW;
+        long low = stateLow * MULTIPLIER_LOW;
+        long sum = low + incrementLow;
+        high += incrementHigh + (Long.compareUnsigned(sum, low) < 0 ? 1 : 0);
+        stateHigh = high;
+        stateLow = sum;
+    }
+
+    /**
+     * High 64 bits of the unsigned 128 bit product of x and y.
+     */
+    private static long multiplyHighUnsigned(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL, x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL, y1 = y >>> 32;
+        long w0 = x0 * y0;
+        long t = x1 * y0 + (w0 >>> 32);
+        long w1 = (t & 0xFFFFFFFFL) + x0 * y1;
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+
+    @Override
+    public long nextLong() {
+        step();
+        return Long.rotateRight(stateHigh ^ stateLow, (int) (stateHigh >>> 58));
+    }
+
+    @Override
+    public Pcg64Engine split() {
+        return new Pcg64Engine(nextLong());
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+/**
+ * Source of randomness used by {@link br.com.fidias.chance4j.Chance}.
+ *
+ * Implementations are not required to be thread-safe. The built-in engines are
+ * listed in {@link RandomEngineType}, custom ones can extend
+ * {@link AbstractRandomEngine} and only implement {@link #nextLong()}.
+ *
+ * @author atila
+ */
+public interface RandomEngine {
+
+    /**
+     * @return A uniformly distributed long
+     */
+    public long nextLong();
+
+    /**
+     * @return A uniformly distributed int
+     */
+    public int nextInt();
+
+    /**
+     * @return A uniformly distributed double between 0 (inclusive) and 1
+     * (exclusive)
+     */
+    public double nextDouble();
+
+    /**
+     * @return Either true or false
+     */
+    public boolean nextBoolean();
+
+    /**
+     * Return a uniformly distributed int between min and max, both included.
+     * The caller must ensure min is not greater than max.
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return A uniformly distributed int
+     */
+    public int nextInt(int min, int max);
+
+    /**
+     * Return a uniformly distributed long between min and max, both included.
+     * The caller must ensure min is not greater than max.
+     *
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     * @return A uniformly distributed long
+     */
+    public long nextLong(long min, long max);
+
+    /**
+     * Fill the array with uniformly distributed ints between min and max,
+     * both included. The caller must ensure min is not greater than max.
+     *
+     * @param dst Array to fill
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     */
+    public void nextInts(int[] dst, int min, int max);
+
+    /**
+     * Fill the array with uniformly distributed longs between min and max,
+     * both included. The caller must ensure min is not greater than max.
+     *
+     * @param dst Array to fill
+     * @param min Minimum value to choose from
+     * @param max Maximum value to choose from
+     */
+    public void nextLongs(long[] dst, long min, long max);
+
+    /**
+     * Create a new engine, of the same kind, seeded from the output of this
+     * one. The new engine is statistically independent from this one, and
+     * both can be used from different threads.
+     *
+     * @return A new engine
+     */
+    public RandomEngine split();
+}
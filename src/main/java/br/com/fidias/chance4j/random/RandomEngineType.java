@@ -0,0 +1,80 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+/**
+ * Built-in random engines.
+ *
+ * @author atila
+ */
+public enum RandomEngineType {
+
+    mersenneTwister {
+        @Override
+        public RandomEngine create(long seed) {
+            return new MersenneTwisterEngine(seed);
+        }
+    },
+    xoshiro256StarStar {
+        @Override
+        public RandomEngine create(long seed) {
+            return new Xoshiro256StarStarEngine(seed);
+        }
+    },
+    splitMix64 {
+        @Override
+        public RandomEngine create(long seed) {
+            return new SplitMix64Engine(seed);
+        }
+    },
+    pcg64 {
+        @Override
+        public RandomEngine create(long seed) {
+            return new Pcg64Engine(seed);
+        }
+    },
+    splittableRandom {
+        @Override
+        public RandomEngine create(long seed) {
+            return new SplittableRandomEngine(seed);
+        }
+    };
+
+    /**
+     * Create a new engine of this type, always producing the same sequence for
+     * the same seed.
+     *
+     * @param seed Initial seed
+     * @return A new engine
+     */
+    public abstract RandomEngine create(long seed);
+
+    /**
+     * Create a new engine of this type with a unique seed.
+     *
+     * @return A new engine
+     */
+    public RandomEngine create() {
+        return create(Seeds.next());
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+/**
+ * SplitMix64 generator by Guy Steele, Doug Lea and Christine Flood. It is the
+ * generator behind {@link java.util.SplittableRandom}, with a single long of
+ * state and one multiply-xorshift finalizer per output.
+ *
+ * @author atila
+ */
+public class SplitMix64Engine extends AbstractRandomEngine {
+
+    public static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public SplitMix64Engine(long seed) {
+        this.state = seed;
+    }
+
+    public SplitMix64Engine() {
+        this(Seeds.next());
+    }
+
+    /**
+     * David Stafford's variant 13 of the MurmurHash3 finalizer, used both as
+     * output function and to spread seeds for other engines.
+     *
+     * @param value Value to mix
+     * @return The mixed value
+     */
+    public static long mix64(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    @Override
+    public SplitMix64Engine split() {
+        return new SplitMix64Engine(nextLong());
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * Engine backed by the JDK {@link SplittableRandom}.
+ *
+ * @author atila
+ */
+public class SplittableRandomEngine extends AbstractRandomEngine {
+
+    private final SplittableRandom random;
+
+    public SplittableRandomEngine(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public SplittableRandomEngine() {
+        this(Seeds.next());
+    }
+
+    private SplittableRandomEngine(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Override
+    public SplittableRandomEngine split() {
+        return new SplittableRandomEngine(random.split());
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+/**
+ * Engine that gives every thread its own, independently seeded engine of the
+ * given type. Nothing mutable is shared between threads, so it can be used
+ * concurrently without locks or contention.
+ *
+ * @author atila
+ */
+public class ThreadLocalRandomEngine implements RandomEngine {
+
+    private final ThreadLocal<RandomEngine> engines;
+
+    public ThreadLocalRandomEngine(final RandomEngineType type) {
+        this.engines = new ThreadLocal<RandomEngine>() {
+            @Override
+            protected RandomEngine initialValue() {
+                return type.create();
+            }
+        };
+    }
+
+    /**
+     * @return The engine of the current thread
+     */
+    public RandomEngine current() {
+        return engines.get();
+    }
+
+    @Override
+    public long nextLong() {
+        return engines.get().nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return engines.get().nextInt();
+    }
+
+    @Override
+    public double nextDouble() {
+        return engines.get().nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return engines.get().nextBoolean();
+    }
+
+    @Override
+    public int nextInt(int min, int max) {
+        return engines.get().nextInt(min, max);
+    }
+
+    @Override
+    public long nextLong(long min, long max) {
+        return engines.get().nextLong(min, max);
+    }
+
+    @Override
+    public void nextInts(int[] dst, int min, int max) {
+        engines.get().nextInts(dst, min, max);
+    }
+
+    @Override
+    public void nextLongs(long[] dst, long min, long max) {
+        engines.get().nextLongs(dst, min, max);
+    }
+
+    /**
+     * Split the engine of the current thread. The returned engine is not
+     * thread-local.
+     *
+     * @return A new engine
+     */
+    @Override
+    public RandomEngine split() {
+        return engines.get().split();
+    }
+}
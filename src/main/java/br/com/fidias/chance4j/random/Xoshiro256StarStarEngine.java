@@ -0,0 +1,67 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+/**
+ * xoshiro256** generator by David Blackman and Sebastiano Vigna. 256 bits of
+ * state, period 2^256 - 1, and only shifts, rotations and xors per output.
+ *
+ * The state is filled from the seed with {@link SplitMix64Engine}, as
+ * recommended by the authors, so it is never all zeros.
+ *
+ * @author atila
+ */
+public class Xoshiro256StarStarEngine extends AbstractRandomEngine {
+
+    private long s0, s1, s2, s3;
+
+    public Xoshiro256StarStarEngine(long seed) {
+        SplitMix64Engine seeder = new SplitMix64Engine(seed);
+        this.s0 = seeder.nextLong();
+        this.s1 = seeder.nextLong();
+        this.s2 = seeder.nextLong();
+        this.s3 = seeder.nextLong();
+    }
+
+    public Xoshiro256StarStarEngine() {
+        this(Seeds.next());
+    }
+
+    @Override
+    public long nextLong() {
+        final long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        final long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    @Override
+    public Xoshiro256StarStarEngine split() {
+        return new Xoshiro256StarStarEngine(nextLong());
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.record;
+
+import br.com.fidias.chance4j.ChanceException;
+
+/**
+ * Receives the fields of generated rows, one at a time, so no row needs to
+ * be allocated.
+ *
+ * @author atila
+ * @see RecordTemplate#generate(br.com.fidias.chance4j.Chance, long, br.com.fidias.chance4j.record.RowSink)
+ */
+public interface RowSink {
+
+    /**
+     * Receive a field of the current row. Fields come in the order of the
+     * template.
+     *
+     * @param index Index of the field in the template
+     * @param value Generated value
+     * @throws ChanceException
+     */
+    public void field(int index, Object value) throws ChanceException;
+
+    /**
+     * End the current row.
+     *
+     * @throws ChanceException
+     */
+    public void endRow() throws ChanceException;
+}
@@ -0,0 +1,169 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.text;
+
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.number.Number;
+import br.com.fidias.chance4j.random.RandomEngine;
+import br.com.fidias.chance4j.text.TextOptions.Casing;
+import br.com.fidias.chance4j.text.TextOptions.PoolType;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Immutable pool of characters compiled from a {@link TextOptions}.
+ *
+ * Pools of the built-in types are created once per casing. Custom pools are
+ * kept in a small cache keyed by the identity of the pool string, so
+ * constants such as {@link Text#VOWELS} are compiled only once.
+ *
+ * @author atila
+ */
+public final class CharPool implements Text {
+
+    private static final int CACHE_SIZE = 64;
+    private static final CharPool[][] BUILT_IN = new CharPool[Casing.values().length][];
+    /**
+     * Direct mapped cache of custom pools. Races on a slot only cost an extra
+     * compilation, the entries themselves are immutable.
+     */
+    private static final CharPool[] CUSTOM = new CharPool[CACHE_SIZE];
+
+    static {
+        for (Casing casing : Casing.values()) {
+            CharPool[] pools = new CharPool[PoolType.values().length];
+            for (PoolType poolType : PoolType.values()) {
+                if (poolType != PoolType.custom) {
+                    pools[poolType.ordinal()] = new CharPool(builtIn(casing, poolType));
+                }
+            }
+            BUILT_IN[casing.ordinal()] = pools;
+        }
+    }
+
+    private final String source;
+    private final char[] chars;
+    private final int last;
+
+    private CharPool(String source) {
+        this.source = source;
+        this.chars = source.toCharArray();
+        this.last = chars.length - 1;
+    }
+
+    private static String builtIn(Casing casing, PoolType poolType) {
+        String letters;
+        switch (casing) {
+            case lower:
+                letters = CHARS_LOWER;
+                break;
+            case upper:
+                letters = CHARS_UPPER;
+                break;
+            default:
+                letters = CHARS_LOWER + CHARS_UPPER;
+        }
+
+        switch (poolType) {
+            case alpha:
+                return letters;
+            case symbols:
+                return SYMBOLS;
+            case alphanumeric:
+                return letters + Number.NUMBERS;
+            case numeric:
+                return Number.NUMBERS;
+            case any:
+                return letters + Number.NUMBERS + SYMBOLS;
+            default:
+                throw new AssertionError();
+        }
+    }
+
+    /**
+     * Return the compiled pool for the options.
+     *
+     * @param options Casing, pool type and custom pool
+     * @return A compiled pool
+     * @throws ChanceException Custom pool not defined
+     */
+    public static CharPool of(TextOptions options) throws ChanceException {
+        if (options.getPoolType() != PoolType.custom) {
+            return BUILT_IN[options.getCasing().ordinal()][options.getPoolType().ordinal()];
+        }
+        String pool = options.getPool();
+        if (StringUtils.isBlank(pool)) {
+            throw new ChanceException("Custom pool not defined.");
+        }
+        int slot = System.identityHashCode(pool) & (CACHE_SIZE - 1);
+        CharPool cached = CUSTOM[slot];
+        if (cached == null || cached.source != pool) {
+            cached = new CharPool(pool);
+            CUSTOM[slot] = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * @return Number of characters in the pool
+     */
+    public int size() {
+        return chars.length;
+    }
+
+    /**
+     * @param index Position in the pool
+     * @return The character at the position
+     */
+    public char charAt(int index) {
+        return chars[index];
+    }
+
+    /**
+     * Draw a single character.
+     *
+     * @param random Source of randomness
+     * @return A random character of the pool
+     */
+    public char next(RandomEngine random) {
+        return chars[random.nextInt(0, last)];
+    }
+
+    /**
+     * Fill the array with random characters of the pool.
+     *
+     * @param random Source of randomness
+     * @param dst Array to fill
+     */
+    public void fill(RandomEngine random, char[] dst) {
+        final char[] pool = chars;
+        final int max = last;
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = pool[random.nextInt(0, max)];
+        }
+    }
+
+    @Override
+    public String getTextPool() {
+        return source;
+    }
+}
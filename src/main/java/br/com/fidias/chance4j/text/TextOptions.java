@@ -22,6 +22,8 @@
  */
 package br.com.fidias.chance4j.text;
 
+import br.com.fidias.chance4j.ChanceException;
+
 /**
  *
  * @author atila
@@ -73,4 +75,17 @@ public class TextOptions {
     public void setPool(String pool) {
         this.pool = pool;
     }
+
+    /**
+     * Compile these options into an immutable pool of characters, which can
+     * be reused with {@link br.com.fidias.chance4j.Chance#character(CharPool)}
+     * and {@link br.com.fidias.chance4j.Chance#string(CharPool, int)}. Later
+     * changes to these options do not affect the returned pool.
+     *
+     * @return A compiled pool
+     * @throws ChanceException Custom pool not defined
+     */
+    public CharPool compile() throws ChanceException {
+        return CharPool.of(this);
+    }
 }
@@ -0,0 +1,78 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.time;
+
+import br.com.fidias.chance4j.random.RandomEngine;
+
+/**
+ * Distribution of the gaps between consecutive events of a time series.
+ * Every distribution has the same mean gap, so the same rate of events.
+ *
+ * @author atila
+ */
+public enum Arrival {
+
+    /**
+     * Exponential gaps, the arrivals of a Poisson process.
+     */
+    poisson {
+        @Override
+        public double gap(RandomEngine engine, double mean) {
+            return exponential(engine, mean);
+        }
+    },
+    /**
+     * Gaps uniformly distributed between zero and twice the mean.
+     */
+    uniform {
+        @Override
+        public double gap(RandomEngine engine, double mean) {
+            return engine.nextDouble() * 2 * mean;
+        }
+    },
+    /**
+     * Bursts of events separated by quiet periods. Nine in ten gaps are
+     * exponential with a tenth of the mean, the others exponential with
+     * 9.1 times the mean.
+     */
+    bursty {
+        @Override
+        public double gap(RandomEngine engine, double mean) {
+            return engine.nextInt(0, 9) == 0
+                    ? exponential(engine, mean * 9.1)
+                    : exponential(engine, mean * 0.1);
+        }
+    };
+
+    /**
+     * @param engine Source of randomness
+     * @param mean Mean gap
+     * @return A random gap, not less than zero
+     */
+    public abstract double gap(RandomEngine engine, double mean);
+
+    private static double exponential(RandomEngine engine, double mean) {
+        // 1 - u is never zero, as nextDouble is less than one
+        return -Math.log(1 - engine.nextDouble()) * mean;
+    }
+}
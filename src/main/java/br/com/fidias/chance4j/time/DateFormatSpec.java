@@ -0,0 +1,193 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.time;
+
+import br.com.fidias.chance4j.ChanceException;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.TimeZone;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * A date pattern and locale compiled once into a formatter. Immutable and
+ * thread safe.
+ * <pre>
+ * DateFormatSpec format = DateFormatSpec.of("dd/MM/yyyy HH:mm:ss", new Locale("pt", "BR"));
+ * chance.timestampAsText(1994, format);
+ * => 17/07/1994 15:58:26
+ * format.formatTo(builder, chance.epochMillis(1994));
+ * </pre>
+ *
+ * Specs are kept in a small cache keyed by pattern and locale, so methods
+ * that take a pattern string compile it only once. Dates are formatted in
+ * the default time zone, as {@link org.joda.time.DateTime#toString(java.lang.String, java.util.Locale)}
+ * does, or in a given zone, and a null pattern means the ISO 8601 format of
+ * {@link org.joda.time.DateTime#toString()}.
+ *
+ * @author atila
+ */
+public final class DateFormatSpec {
+
+    private static final int CACHE_SIZE = 64;
+    /**
+     * Direct mapped cache of specs. Races on a slot only cost an extra
+     * compilation, the entries themselves are immutable.
+     */
+    private static final DateFormatSpec[] CACHE = new DateFormatSpec[CACHE_SIZE];
+
+    private final String pattern;
+    private final Locale locale;
+    private final DateTimeFormatter formatter;
+    /**
+     * Formatter of the last zone asked for. A race only costs an extra
+     * {@link DateTimeFormatter#withZone(org.joda.time.DateTimeZone)}.
+     */
+    private Zoned zoned;
+
+    private DateFormatSpec(String pattern, Locale locale, DateTimeFormatter formatter) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.formatter = formatter;
+    }
+
+    private static DateFormatSpec compile(String pattern, Locale locale) throws ChanceException {
+        if (pattern == null) {
+            return new DateFormatSpec(null, locale, ISODateTimeFormat.dateTime());
+        }
+        try {
+            return new DateFormatSpec(pattern, locale,
+                    DateTimeFormat.forPattern(pattern).withLocale(locale));
+        } catch (IllegalArgumentException e) {
+            throw new ChanceException("Invalid date pattern: " + pattern, e);
+        }
+    }
+
+    /**
+     * Return the compiled spec for a pattern and locale.
+     *
+     * @param pattern Pattern of {@link DateTimeFormat}, ISO 8601 if null
+     * @param locale Locale of month and day names, default locale if null
+     * @return A compiled spec
+     * @throws ChanceException if the pattern is invalid
+     */
+    public static DateFormatSpec of(String pattern, Locale locale) throws ChanceException {
+        if (locale == null) {
+            locale = Locale.getDefault();
+        }
+        int hash = pattern == null ? 0 : pattern.hashCode();
+        int slot = (hash * 31 + locale.hashCode()) & (CACHE_SIZE - 1);
+        DateFormatSpec cached = CACHE[slot];
+        if (cached == null || !samePattern(cached.pattern, pattern) || !cached.locale.equals(locale)) {
+            cached = compile(pattern, locale);
+            CACHE[slot] = cached;
+        }
+        return cached;
+    }
+
+    private static boolean samePattern(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    /**
+     * Return the compiled spec for a pattern, with the default locale.
+     *
+     * @param pattern Pattern of {@link DateTimeFormat}, ISO 8601 if null
+     * @return A compiled spec
+     * @throws ChanceException if the pattern is invalid
+     */
+    public static DateFormatSpec of(String pattern) throws ChanceException {
+        return of(pattern, Locale.getDefault());
+    }
+
+    /**
+     * @return The pattern, or null for ISO 8601
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @param epochMillis Milliseconds since the epoch
+     * @return The formatted date
+     */
+    public String format(long epochMillis) {
+        return formatter.print(epochMillis);
+    }
+
+    /**
+     * @param epochMillis Milliseconds since the epoch
+     * @param zone Time zone of the text
+     * @return The formatted date, in the given zone
+     */
+    public String format(long epochMillis, TimeZone zone) {
+        return zoned(zone).print(epochMillis);
+    }
+
+    private DateTimeFormatter zoned(TimeZone zone) {
+        Zoned last = zoned;
+        if (last == null || last.zone != zone) {
+            last = new Zoned(zone, formatter.withZone(DateTimeZone.forTimeZone(zone)));
+            zoned = last;
+        }
+        return last.formatter;
+    }
+
+    /**
+     * Append a formatted date, without creating a string.
+     *
+     * @param out Where to append the date
+     * @param epochMillis Milliseconds since the epoch
+     */
+    public void formatTo(StringBuilder out, long epochMillis) {
+        formatter.printTo(out, epochMillis);
+    }
+
+    /**
+     * Append a formatted date, without creating a string.
+     *
+     * @param out Where to append the date
+     * @param epochMillis Milliseconds since the epoch
+     * @throws IOException if the appendable fails
+     */
+    public void formatTo(Appendable out, long epochMillis) throws IOException {
+        formatter.printTo(out, epochMillis);
+    }
+
+    private static final class Zoned {
+
+        private final TimeZone zone;
+        private final DateTimeFormatter formatter;
+
+        Zoned(TimeZone zone, DateTimeFormatter formatter) {
+            this.zone = zone;
+            this.formatter = formatter;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.time;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+
+/**
+ * Month names, weekday names and AM/PM markers of a locale, formatted once
+ * on first use and then read from arrays. Immutable and thread safe.
+ * <pre>
+ * DateSymbols symbols = DateSymbols.of(new Locale("pt", "BR"));
+ * symbols.monthName(7, Month.MonthOptions.fullName);
+ * => julho
+ * symbols.weekdayName(1);
+ * => segunda-feira
+ * </pre>
+ *
+ * Names are the same printed by {@link org.joda.time.format.DateTimeFormat}
+ * with the patterns MMM, MMMM, EEE, EEEE and a.
+ *
+ * @author atila
+ */
+public final class DateSymbols {
+
+    private static final ConcurrentMap<Locale, DateSymbols> CACHE = new ConcurrentHashMap<>();
+    /**
+     * 1994-01-03 is a monday, so day i of that week is the ISO day of week i.
+     */
+    private static final int FIRST_MONDAY = 3;
+
+    private final Locale locale;
+    private final String[] numeric = new String[Month.MAX];
+    private final String[] shortMonths = new String[Month.MAX];
+    private final String[] months = new String[Month.MAX];
+    private final String[] shortWeekdays = new String[7];
+    private final String[] weekdays = new String[7];
+    private final String[] amPm = new String[2];
+
+    private DateSymbols(Locale locale) {
+        this.locale = locale;
+        for (int month = Month.MIN; month <= Month.MAX; month++) {
+            LocalDate date = new LocalDate(1994, month, 1);
+            numeric[month - 1] = date.toString(Month.MonthOptions.numeric.getFormat(), locale);
+            shortMonths[month - 1] = date.toString(Month.MonthOptions.shortName.getFormat(), locale);
+            months[month - 1] = date.toString(Month.MonthOptions.fullName.getFormat(), locale);
+        }
+        for (int day = 0; day < 7; day++) {
+            LocalDate date = new LocalDate(1994, 1, FIRST_MONDAY + day);
+            shortWeekdays[day] = date.toString("EEE", locale);
+            weekdays[day] = date.toString("EEEE", locale);
+        }
+        amPm[0] = new LocalTime(0, 0).toString("a", locale);
+        amPm[1] = new LocalTime(12, 0).toString("a", locale);
+    }
+
+    /**
+     * Return the symbols of a locale, formatting them on first use.
+     *
+     * @param locale Locale of the names, default locale if null
+     * @return Symbols of the locale
+     */
+    public static DateSymbols of(Locale locale) {
+        if (locale == null) {
+            locale = Locale.getDefault();
+        }
+        DateSymbols symbols = CACHE.get(locale);
+        if (symbols == null) {
+            symbols = CACHE.computeIfAbsent(locale, DateSymbols::new);
+        }
+        return symbols;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @param month Month of the year, from 1 to 12
+     * @param options Numeric, short or full name, full name if null
+     * @return Name of the month
+     */
+    public String monthName(int month, Month.MonthOptions options) {
+        if (options == null) {
+            return months[month - 1];
+        }
+        switch (options) {
+            case numeric:
+                return numeric[month - 1];
+            case shortName:
+                return shortMonths[month - 1];
+            default:
+                return months[month - 1];
+        }
+    }
+
+    /**
+     * @param dayOfWeek ISO day of week, from 1 (monday) to 7 (sunday)
+     * @return Full name of the day
+     */
+    public String weekdayName(int dayOfWeek) {
+        return weekdays[dayOfWeek - 1];
+    }
+
+    /**
+     * @param dayOfWeek ISO day of week, from 1 (monday) to 7 (sunday)
+     * @return Short name of the day
+     */
+    public String shortWeekdayName(int dayOfWeek) {
+        return shortWeekdays[dayOfWeek - 1];
+    }
+
+    /**
+     * @param hourOfDay Hour of the day, from 0 to 23
+     * @return AM marker before noon, PM marker after
+     */
+    public String amPm(int hourOfDay) {
+        return amPm[hourOfDay < 12 ? 0 : 1];
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.time;
+
+import java.util.TimeZone;
+
+/**
+ * Calendar arithmetic on epoch days and epoch milliseconds, in the proleptic
+ * ISO calendar, without creating date objects. Days are counted from
+ * 1970-01-01, as in {@link java.time.LocalDate#toEpochDay()}.
+ *
+ * The conversions follow Howard Hinnant's days_from_civil and
+ * civil_from_days algorithms.
+ *
+ * @author atila
+ */
+public final class EpochTime {
+
+    public static final long MILLIS_PER_SECOND = 1000L;
+    public static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    public static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    public static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+    // days from 0000-03-01 to 1970-01-01
+    private static final long DAYS_0000_TO_1970 = 719468;
+    private static final int DAYS_PER_ERA = 146097;
+
+    private EpochTime() {
+    }
+
+    /**
+     * @param year Any year
+     * @param month From 1 to 12
+     * @param day From 1 to the length of the month
+     * @return Days since 1970-01-01
+     */
+    public static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1L : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * DAYS_PER_ERA + doe - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * @param epochDay Days since 1970-01-01
+     * @return The year of the day
+     */
+    public static int yearOf(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_ERA);
+        long doe = z - era * DAYS_PER_ERA;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        return (int) (yoe + era * 400 + (mp >= 10 ? 1 : 0));
+    }
+
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * @param year Any year
+     * @param month From 1 to 12
+     * @return Number of days of the month
+     */
+    public static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Convert a local date and time, counted in milliseconds as if it was UTC,
+     * to the instant it happens in the zone, as
+     * {@link java.time.ZonedDateTime#ofLocal} does: in an overlap the earlier
+     * offset is used, and times skipped by a gap move forward by the length
+     * of the gap.
+     *
+     * @param localMillis Local date and time
+     * @param zone Time zone of the local time
+     * @return Milliseconds since the epoch
+     */
+    public static long toEpochMillis(long localMillis, TimeZone zone) {
+        // offsets a day before and after, around any transition near the time
+        long guess = localMillis - zone.getRawOffset();
+        int before = zone.getOffset(guess - MILLIS_PER_DAY);
+        int after = zone.getOffset(guess + MILLIS_PER_DAY);
+        if (before == after) {
+            int offset = zone.getOffset(guess);
+            if (zone.getOffset(localMillis - offset) == offset) {
+                return localMillis - offset;
+            }
+        } else if (zone.getOffset(localMillis - before) == before) {
+            return localMillis - before;
+        } else if (zone.getOffset(localMillis - after) == after) {
+            return localMillis - after;
+        }
+        // in a gap
+        return localMillis - before;
+    }
+
+    /**
+     * @param epochMillis Milliseconds since the epoch
+     * @param zone Time zone
+     * @return Days since 1970-01-01 of the local date in the zone
+     */
+    public static long epochDay(long epochMillis, TimeZone zone) {
+        return Math.floorDiv(epochMillis + zone.getOffset(epochMillis), MILLIS_PER_DAY);
+    }
+}
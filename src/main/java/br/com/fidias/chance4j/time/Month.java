@@ -23,7 +23,6 @@
 package br.com.fidias.chance4j.time;
 
 import java.util.Locale;
-import org.joda.time.LocalDate;
 
 /**
  *
@@ -52,15 +51,6 @@ public class Month {
     }
 
     public static String monthName(int month, MonthOptions options, Locale locale) {
-        if (options == null) {
-            options = MonthOptions.fullName;
-        }
-
-        if (locale == null) {
-            locale = Locale.getDefault();
-        }
-
-        LocalDate date = new LocalDate(1994, month, 1);
-        return date.toString(options.getFormat(), locale);
+        return DateSymbols.of(locale).monthName(month, options);
     }
 }
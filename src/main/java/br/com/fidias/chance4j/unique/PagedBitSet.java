@@ -0,0 +1,116 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.unique;
+
+/**
+ * Bit set over a fixed domain of up to 2^46 indexes, allocated in 8 KB pages
+ * on first use. Never takes more than one bit per index plus a reference per
+ * page, so the 10^9 CPF bases fit in 120 MB at worst.
+ *
+ * @author atila
+ */
+public final class PagedBitSet {
+
+    private static final int PAGE_SHIFT = 16;
+    private static final long PAGE_BITS = 1L << PAGE_SHIFT;
+    private static final int WORDS_PER_PAGE = (int) (PAGE_BITS >>> 6);
+
+    private final long size;
+    private final long[][] pages;
+
+    /**
+     * @param size Number of indexes, from 0 to size - 1
+     */
+    public PagedBitSet(long size) {
+        if (size <= 0 || size > (long) Integer.MAX_VALUE << PAGE_SHIFT) {
+            throw new IllegalArgumentException("Size out of range: " + size);
+        }
+        this.size = size;
+        this.pages = new long[(int) ((size + PAGE_BITS - 1) >>> PAGE_SHIFT)][];
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean get(long index) {
+        long[] page = pages[(int) (index >>> PAGE_SHIFT)];
+        return page != null && (page[word(index)] & (1L << index)) != 0;
+    }
+
+    /**
+     * Set a bit.
+     *
+     * @param index Index of the bit
+     * @return true if the bit was clear
+     */
+    public boolean set(long index) {
+        int pageIndex = (int) (index >>> PAGE_SHIFT);
+        long[] page = pages[pageIndex];
+        if (page == null) {
+            page = pages[pageIndex] = new long[WORDS_PER_PAGE];
+        }
+        int word = word(index);
+        long bit = 1L << index;
+        if ((page[word] & bit) != 0) {
+            return false;
+        }
+        page[word] |= bit;
+        return true;
+    }
+
+    /**
+     * First clear bit at or after an index, wrapping around at the end.
+     *
+     * @param from Index to start from
+     * @return The index of a clear bit, or -1 if every bit is set
+     */
+    public long nextClearBit(long from) {
+        long found = nextClearBit(from, size);
+        return found >= 0 ? found : nextClearBit(0, from);
+    }
+
+    private long nextClearBit(long from, long to) {
+        long index = from;
+        while (index < to) {
+            long[] page = pages[(int) (index >>> PAGE_SHIFT)];
+            if (page == null) {
+                return index;
+            }
+            long pageEnd = Math.min(to, ((index >>> PAGE_SHIFT) + 1) << PAGE_SHIFT);
+            while (index < pageEnd) {
+                long clear = ~page[word(index)] & (-1L << index);
+                if (clear != 0) {
+                    long found = (index & ~63L) + Long.numberOfTrailingZeros(clear);
+                    return found < to ? found : -1;
+                }
+                index = (index & ~63L) + 64;
+            }
+        }
+        return -1;
+    }
+
+    private static int word(long index) {
+        return (int) (index >>> 6) & (WORDS_PER_PAGE - 1);
+    }
+}
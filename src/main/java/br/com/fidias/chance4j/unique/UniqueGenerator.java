@@ -0,0 +1,118 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.unique;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.Generator;
+import br.com.fidias.chance4j.random.SplitMix64Engine;
+import java.util.function.ToLongFunction;
+
+/**
+ * Wraps a generator so it never returns the same value twice. Values are
+ * remembered by a 64-bit key in a {@link LongHashSet}, not by reference.
+ * <pre>
+ * UniqueGenerator&lt;String&gt; ssns = chance.unique(Chance::ssn);
+ * ssns.next();
+ * </pre>
+ *
+ * Not thread safe.
+ *
+ * @param <T> Type of the generated values
+ * @author atila
+ */
+public final class UniqueGenerator<T> {
+
+    /**
+     * Duplicates in a row before giving up, as in chancejs.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 50;
+
+    private final Chance chance;
+    private final Generator<T> generator;
+    private final ToLongFunction<? super T> key;
+    private final int maxAttempts;
+    private final LongHashSet seen = new LongHashSet();
+
+    public UniqueGenerator(Chance chance, Generator<T> generator,
+            ToLongFunction<? super T> key, int maxAttempts) {
+        this.chance = chance;
+        this.generator = generator;
+        this.key = key;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public UniqueGenerator(Chance chance, Generator<T> generator) {
+        this(chance, generator, UniqueGenerator::defaultKey, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Return a value not returned before.
+     *
+     * @return A unique value
+     * @throws ChanceException if every attempt gave a duplicate
+     */
+    public T next() throws ChanceException {
+        for (int i = 0; i < maxAttempts; i++) {
+            T value = generator.generate(chance);
+            if (seen.add(key.applyAsLong(value))) {
+                return value;
+            }
+        }
+        final String message = "Could not generate a unique value after %d attempts, "
+                + "%d values were generated.";
+        throw new ChanceException(String.format(message, maxAttempts, seen.size()));
+    }
+
+    /**
+     * @return How many values were generated
+     */
+    public int count() {
+        return seen.size();
+    }
+
+    /**
+     * Integral numbers are their own key, anything else is keyed by a 64-bit
+     * hash of its text.
+     *
+     * @param value Value to key
+     * @return The key
+     */
+    public static long defaultKey(Object value) {
+        if (value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return Double.doubleToLongBits(((Number) value).doubleValue());
+        }
+        CharSequence text = value instanceof CharSequence
+                ? (CharSequence) value : String.valueOf(value);
+        // FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * 0x100000001b3L;
+        }
+        return SplitMix64Engine.mix64(hash);
+    }
+}
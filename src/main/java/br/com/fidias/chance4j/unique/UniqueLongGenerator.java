@@ -0,0 +1,102 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.unique;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Unique values over a bounded domain of indexes, remembered in a
+ * {@link PagedBitSet}: at most one bit per possible value. Every value is
+ * eventually returned, and exhaustion is reported once all of them were.
+ * <pre>
+ * UniqueLongGenerator cpfs = chance.uniqueCpf();
+ * cpfs.next();
+ * </pre>
+ *
+ * Not thread safe.
+ *
+ * @author atila
+ */
+public final class UniqueLongGenerator {
+
+    // random draws before looking for the next free index
+    private static final int MAX_ATTEMPTS = 16;
+
+    private final Chance chance;
+    private final LongUnaryOperator mapping;
+    private final PagedBitSet seen;
+    private long count;
+
+    /**
+     * @param chance Source of randomness
+     * @param size Number of indexes in the domain
+     * @param mapping Turns an index, from 0 to size - 1, into a value
+     */
+    public UniqueLongGenerator(Chance chance, long size, LongUnaryOperator mapping) {
+        this.chance = chance;
+        this.mapping = mapping;
+        this.seen = new PagedBitSet(size);
+    }
+
+    /**
+     * Return a value not returned before.
+     *
+     * @return A unique value
+     * @throws ChanceException if every value of the domain was generated
+     */
+    public long next() throws ChanceException {
+        if (count == seen.size()) {
+            throw new ChanceException(String.format(
+                    "All %d unique values were generated.", count));
+        }
+        long index = 0;
+        boolean found = false;
+        for (int i = 0; i < MAX_ATTEMPTS && !found; i++) {
+            index = chance.getLong(0, seen.size() - 1);
+            found = seen.set(index);
+        }
+        if (!found) {
+            // nearly full domain, take the free index closest to the last draw
+            index = seen.nextClearBit(index);
+            seen.set(index);
+        }
+        count++;
+        return mapping.applyAsLong(index);
+    }
+
+    /**
+     * @return How many values were generated
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return How many values are left
+     */
+    public long remaining() {
+        return seen.size() - count;
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The only class, with the events, that links to {@code jdk.jfr}. It is
+ * compiled for Java 11, apart from the rest of chance4j, into the
+ * {@code META-INF/versions/11} entries of the multi-release jar, and loaded by
+ * {@link ChanceEvents} only when Flight Recorder is available.
+ *
+ * @author atila
+ */
+final class JfrEvents implements EventRecorder {
+
+    JfrEvents() {
+    }
+
+    @Override
+    public Object beginBatch() {
+        if (!FlightRecorder.isInitialized()) {
+            return null;
+        }
+        BatchEvent event = new BatchEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endBatch(Object begun, int fields, long rows) {
+        BatchEvent event = (BatchEvent) begun;
+        event.end();
+        if (event.shouldCommit()) {
+            event.fields = fields;
+            event.rows = rows;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object beginDictionaryLoad() {
+        if (!FlightRecorder.isInitialized()) {
+            return null;
+        }
+        DictionaryLoadEvent event = new DictionaryLoadEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endDictionaryLoad(Object begun, String resource, long bytes, int names) {
+        DictionaryLoadEvent event = (DictionaryLoadEvent) begun;
+        event.end();
+        if (event.shouldCommit()) {
+            event.resource = resource;
+            event.bytes = bytes;
+            event.names = names;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void uniqueSetGrown(int oldCapacity, int newCapacity, int size) {
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        UniqueSetGrowthEvent event = new UniqueSetGrowthEvent();
+        if (event.shouldCommit()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    @Name("chance4j.Batch")
+    @Label("Batch Generation")
+    @Description("Rows generated by a record template in a single call")
+    @Category("chance4j")
+    @StackTrace(false)
+    static final class BatchEvent extends Event {
+
+        @Label("Fields")
+        int fields;
+
+        @Label("Rows")
+        long rows;
+    }
+
+    @Name("chance4j.DictionaryLoad")
+    @Label("Dictionary Load")
+    @Description("Name dictionary read from its resource")
+    @Category("chance4j")
+    @StackTrace(false)
+    static final class DictionaryLoadEvent extends Event {
+
+        @Label("Resource")
+        String resource;
+
+        @Label("Size")
+        @DataAmount
+        long bytes;
+
+        @Label("Names")
+        int names;
+    }
+
+    @Name("chance4j.UniqueSetGrowth")
+    @Label("Unique Set Growth")
+    @Description("Set of seen values of a unique generator resized")
+    @Category("chance4j")
+    static final class UniqueSetGrowthEvent extends Event {
+
+        @Label("Old Capacity")
+        int oldCapacity;
+
+        @Label("New Capacity")
+        int newCapacity;
+
+        @Label("Size")
+        int size;
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j;
+
+import br.com.fidias.chance4j.random.RandomEngineType;
+import java.util.BitSet;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class BulkTest extends AbstractChanceTesting {
+
+    private static final int SIZE = 10000;
+
+    private static Chance seeded() {
+        return new Chance(RandomEngineType.splitMix64.create(2016));
+    }
+
+    @Test
+    public void intsWithinBounds() throws ChanceException {
+        int[] values = chance.ints(new int[SIZE], -250, -110);
+        for (int value : values) {
+            assertTrue("int within bounds", value >= -250 && value <= -110);
+        }
+    }
+
+    @Test
+    public void intsSameAsScalar() throws ChanceException {
+        int[] values = seeded().ints(new int[SIZE], 0, 1000);
+        Chance scalar = seeded();
+        for (int value : values) {
+            assertEquals("same sequence as integer(min, max)", scalar.integer(0, 1000), value);
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void intsMinGreaterThanMax() throws ChanceException {
+        chance.ints(new int[SIZE], 10, 0);
+    }
+
+    @Test
+    public void longsWithinBounds() throws ChanceException {
+        long[] values = chance.longs(new long[SIZE], -10, Long.MAX_VALUE);
+        for (long value : values) {
+            assertTrue("long within bounds", value >= -10);
+        }
+    }
+
+    @Test
+    public void longsSameAsScalar() throws ChanceException {
+        long[] values = seeded().longs(new long[SIZE], 0, 1000000000000L);
+        Chance scalar = seeded();
+        for (long value : values) {
+            assertEquals("same sequence as getLong(min, max)",
+                    scalar.getLong(0, 1000000000000L), value);
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void longsMinGreaterThanMax() throws ChanceException {
+        chance.longs(new long[SIZE], 10, 0);
+    }
+
+    @Test
+    public void doublesSameAsScalar() throws ChanceException {
+        for (int fixed = 0; fixed <= 7; fixed++) {
+            double[] values = seeded().doubles(new double[SIZE], null, null, fixed);
+            Chance scalar = seeded();
+            double[] expected = new double[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                expected[i] = scalar.getDouble(null, null, fixed);
+            }
+            assertArrayEquals("same values as getDouble(min, max, fixed)", expected, values, 0);
+        }
+    }
+
+    @Test
+    public void doublesWithinBounds() throws ChanceException {
+        double[] values = chance.doubles(new double[SIZE], -10, 100, 3);
+        for (double value : values) {
+            assertTrue("double within bounds", value >= -10 && value <= 100);
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void doublesOverflowMaxValue() throws ChanceException {
+        chance.doubles(new double[SIZE], 0, Integer.MAX_VALUE, 2);
+    }
+
+    @Test
+    public void boolsLikelihood() throws ChanceException {
+        boolean[] values = chance.bools(new boolean[SIZE], 30);
+        int count = 0;
+        for (boolean value : values) {
+            if (value) {
+                count++;
+            }
+        }
+        assertTrue("about 30% true", count > SIZE * 0.25 && count < SIZE * 0.35);
+    }
+
+    @Test
+    public void boolsHalf() throws ChanceException {
+        boolean[] values = chance.bools(new boolean[SIZE + 7], 50);
+        int count = 0;
+        for (boolean value : values) {
+            if (value) {
+                count++;
+            }
+        }
+        assertTrue("about half true", count > SIZE * 0.45 && count < SIZE * 0.55);
+    }
+
+    @Test
+    public void bitSetLikelihood() throws ChanceException {
+        BitSet values = new BitSet();
+        values.set(SIZE + 10);
+        chance.bools(values, SIZE, 0);
+        assertEquals("bits beyond length are kept", 1, values.cardinality());
+        chance.bools(values, SIZE, 100);
+        assertEquals("all bits set", SIZE + 1, values.cardinality());
+        chance.bools(values, SIZE, 50);
+        assertTrue("about half set", values.cardinality() > SIZE * 0.45
+                && values.cardinality() < SIZE * 0.55);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void boolsLikelihoodOutOfBounds() throws ChanceException {
+        chance.bools(new boolean[SIZE], 101);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j;
+
+import br.com.fidias.chance4j.random.RandomEngineType;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The integer scaling behind getDouble and floating must give exactly the
+ * values of the BigDecimal path.
+ *
+ * @author atila
+ */
+public class FixedDecimalTest extends AbstractChanceTesting {
+
+    private static final int SIZE = 20000;
+
+    private static Chance seeded() {
+        return new Chance(RandomEngineType.splitMix64.create(2016));
+    }
+
+    @Test
+    public void doubleSameAsBigDecimal() throws ChanceException {
+        for (int fixed = 0; fixed <= 7; fixed++) {
+            Chance fast = seeded();
+            Chance exact = seeded();
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals("same value as getBigDecimal",
+                        exact.getBigDecimal(null, null, fixed).doubleValue(),
+                        fast.getDouble(null, null, fixed), 0);
+            }
+        }
+    }
+
+    @Test
+    public void floatSameAsBigDecimal() throws ChanceException {
+        for (int fixed = 0; fixed <= 7; fixed++) {
+            Chance fast = seeded();
+            Chance exact = seeded();
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals("same value as getBigDecimal",
+                        exact.getBigDecimal(null, null, fixed).floatValue(),
+                        fast.floating(null, null, fixed), 0);
+            }
+        }
+    }
+
+    @Test
+    public void boundedSameAsBigDecimal() throws ChanceException {
+        Chance fast = seeded();
+        Chance exact = seeded();
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals("same value as getBigDecimal",
+                    exact.getBigDecimal(-10, 100, 3).doubleValue(),
+                    fast.getDouble(-10, 100, 3), 0);
+            assertEquals("same value as getBigDecimal",
+                    exact.getBigDecimal(-250, -110, 1).floatValue(),
+                    fast.floating(-250, -110, 1), 0);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j;
+
+import br.com.fidias.chance4j.random.RandomEngineType;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ *
+ * @author atila
+ */
+public class SeedTest extends AbstractChanceTesting {
+
+    private static final int SIZE = 100;
+
+    private static long[] draw(Chance chance) throws ChanceException {
+        return chance.longs(new long[SIZE], Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void sameSeedSameValues() throws ChanceException {
+        for (RandomEngineType type : RandomEngineType.values()) {
+            assertArrayEquals("same values for " + type,
+                    draw(new Chance(type, 2016)), draw(new Chance(type, 2016)));
+        }
+        assertEquals("same name", new Chance(2016).name(), new Chance(2016).name());
+    }
+
+    @Test
+    public void differentSeedsDifferentValues() throws ChanceException {
+        assertFalse("different values", Arrays.equals(
+                draw(new Chance(2016)), draw(new Chance(2017))));
+    }
+
+    @Test
+    public void forkDependsOnlyOnSeedAndPartition() throws ChanceException {
+        Chance root = new Chance(RandomEngineType.xoshiro256StarStar, 2016);
+        long[] expected = draw(root.fork(7));
+        Chance other = new Chance(RandomEngineType.xoshiro256StarStar, 2016);
+        draw(other);
+        for (int i = 0; i < 7; i++) {
+            draw(other.fork(i));
+        }
+        assertArrayEquals("same values for the same partition", expected, draw(other.fork(7)));
+    }
+
+    @Test
+    public void partitionsAreDifferent() throws ChanceException {
+        Chance root = new Chance(2016);
+        Set<Long> firsts = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            firsts.add(root.fork(i).getLong());
+        }
+        firsts.add(root.getLong());
+        assertEquals("every partition has its own values", 1001, firsts.size());
+    }
+
+    @Test
+    public void forkOfFork() throws ChanceException {
+        assertArrayEquals("nested partitions are reproducible",
+                draw(new Chance(2016).fork(3).fork(5)), draw(new Chance(2016).fork(3).fork(5)));
+    }
+
+    @Test(expected = ChanceException.class)
+    public void forkWithoutSeed() throws ChanceException {
+        chance.fork(0);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void partitionLessThanZero() throws ChanceException {
+        new Chance(2016).fork(-1);
+    }
+}
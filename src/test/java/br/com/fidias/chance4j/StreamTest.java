@@ -0,0 +1,116 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j;
+
+import br.com.fidias.chance4j.person.name.NameOptions;
+import br.com.fidias.chance4j.text.TextOptions;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class StreamTest extends AbstractChanceTesting {
+
+    private static final int SIZE = 100000;
+
+    @Test
+    public void intsWithinBounds() throws ChanceException {
+        assertTrue("ints within bounds", chance.ints(SIZE, -10, 10)
+                .allMatch(value -> value >= -10 && value <= 10));
+    }
+
+    @Test
+    public void parallelIntsSize() throws ChanceException {
+        assertEquals("parallel ints size", SIZE, chance.ints(SIZE, 0, 9).parallel().count());
+        assertEquals("parallel ints sum within bounds", SIZE,
+                chance.ints(SIZE, 1, 1).parallel().sum());
+    }
+
+    @Test
+    public void unlimitedInts() throws ChanceException {
+        assertEquals("unlimited ints", 10, chance.ints(0, 9).limit(10).count());
+    }
+
+    @Test(expected = ChanceException.class)
+    public void intsMinGreaterThanMax() throws ChanceException {
+        chance.ints(SIZE, 10, 0);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void negativeSize() throws ChanceException {
+        chance.ints(-1, 0, 10);
+    }
+
+    @Test
+    public void parallelLongsWithinBounds() throws ChanceException {
+        assertTrue("longs within bounds", chance.longs(SIZE, 0, 1000000000000L).parallel()
+                .allMatch(value -> value >= 0 && value <= 1000000000000L));
+    }
+
+    @Test
+    public void parallelDoublesWithinBounds() throws ChanceException {
+        assertTrue("doubles within bounds", chance.doubles(SIZE, -10, 100, 2).parallel()
+                .allMatch(value -> value >= -10 && value <= 100));
+    }
+
+    @Test(expected = ChanceException.class)
+    public void doublesOverflowMaxValue() throws ChanceException {
+        chance.doubles(SIZE, 0, Integer.MAX_VALUE, 2);
+    }
+
+    @Test
+    public void parallelStrings() throws ChanceException {
+        TextOptions options = new TextOptions();
+        options.setPoolType(TextOptions.PoolType.numeric);
+        List<String> strings = chance.strings(SIZE, options, 8).parallel()
+                .collect(Collectors.toList());
+        assertEquals("strings size", SIZE, strings.size());
+        for (String string : strings) {
+            assertTrue("choose only from numbers", string.matches("[0-9]{8}"));
+        }
+    }
+
+    @Test
+    public void parallelNames() throws ChanceException {
+        NameOptions options = new NameOptions();
+        options.setMiddleInitial(true);
+        assertTrue("names with middle initial", chance.names(10000, options).parallel()
+                .allMatch(name -> name.matches(".+ [A-Z]\\. .+")));
+    }
+
+    @Test
+    public void generatorStream() {
+        assertTrue("cpf stream", chance.stream(Chance::cpfAsText).limit(1000)
+                .allMatch(cpf -> cpf.matches("\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}")));
+    }
+
+    @Test(expected = UncheckedChanceException.class)
+    public void generatorException() {
+        chance.stream(c -> c.integer(10, 0)).findFirst();
+    }
+}
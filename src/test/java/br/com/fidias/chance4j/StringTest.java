@@ -25,6 +25,7 @@ package br.com.fidias.chance4j;
 import br.com.fidias.chance4j.text.TextOptions;
 import org.junit.Before;
 import org.junit.Test;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -103,4 +104,34 @@ public class StringTest extends AbstractChanceTesting {
                     String.valueOf(string).matches("[a-zA-Z0-9]+"));
         }
     }
+    
+    @Test
+    public void longString() throws ChanceException {
+        options.setPoolType(TextOptions.PoolType.numeric);
+        String string = chance.string(options, 100000);
+        assertEquals("long string", 100000, string.length());
+        assertTrue("choose only from numbers", string.matches("[0-9]+"));
+    }
+    
+    @Test
+    public void singleCharacterPool() throws ChanceException {
+        options.setPoolType(TextOptions.PoolType.custom);
+        options.setPool("x");
+        assertEquals("single character pool", "xxxxx", chance.string(options, 5));
+    }
+    
+    @Test
+    public void appendToBuffer() throws ChanceException {
+        options.setPoolType(TextOptions.PoolType.alpha);
+        options.setCasing(TextOptions.Casing.upper);
+        StringBuilder builder = new StringBuilder("id-");
+        StringBuilder result = chance.string(options, 10, builder);
+        assertTrue("same buffer", result == builder);
+        assertTrue("appended to the buffer", builder.toString().matches("id-[A-Z]{10}"));
+    }
+    
+    @Test(expected = ChanceException.class)
+    public void appendLengthLessThanZero() throws ChanceException {
+        chance.string(options, 0, new StringBuilder());
+    }
 }
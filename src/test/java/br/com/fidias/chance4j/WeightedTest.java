@@ -0,0 +1,67 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j;
+
+import br.com.fidias.chance4j.person.FirstName;
+import br.com.fidias.chance4j.person.Gender;
+import br.com.fidias.chance4j.person.name.Nationality;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class WeightedTest extends AbstractChanceTesting {
+
+    @Test
+    public void onlyPositiveWeights() throws ChanceException {
+        String[] items = {"a", "b", "c"};
+        double[] weights = {0, 1, 0};
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("only item with weight", "b", chance.weighted(items, weights));
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void lengthsDiffer() throws ChanceException {
+        chance.weighted(new String[]{"a", "b"}, new double[]{1});
+    }
+
+    @Test
+    public void weightedNamesAreSkewed() {
+        String[] names = FirstName.getFirstNameList(Gender.Female, Nationality.English);
+        Map<String, Integer> counts = new HashMap<>();
+        int draws = names.length * 100;
+        for (int i = 0; i < draws; i++) {
+            counts.merge(chance.weightedFirstName(Gender.Female, Nationality.English), 1, Integer::sum);
+        }
+        assertTrue("only names of the list", Arrays.asList(names).containsAll(counts.keySet()));
+        int top = counts.values().stream().max(Integer::compare).get();
+        assertTrue("most common name is much more common than average", top > 10 * 100);
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.metrics;
+
+import br.com.fidias.chance4j.AbstractChanceTesting;
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.Generator;
+import br.com.fidias.chance4j.person.CpfOptions;
+import br.com.fidias.chance4j.record.RecordTemplate;
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class ChanceMetricsTest extends AbstractChanceTesting {
+
+    @Test
+    public void countCalls() throws ChanceException {
+        ChanceMetrics metrics = new ChanceMetrics();
+        Generator<String> words = metrics.instrument("word", c -> String.valueOf(c.natural(10000, 99999)));
+        Generator<Integer> dice = metrics.instrument("dice", c -> c.natural(1, 6));
+        for (int i = 0; i < 100; i++) {
+            words.generate(chance);
+            dice.generate(chance);
+        }
+        assertEquals("calls", 100, metrics.get("word").calls());
+        assertEquals("characters of texts", 500, metrics.get("word").characters());
+        assertEquals("no characters of numbers", 0, metrics.get("dice").characters());
+        assertNull("latency off", metrics.get("dice").latency());
+        assertNull("unknown name", metrics.get("name"));
+        metrics.reset();
+        assertEquals("reset", 0, metrics.get("word").calls());
+    }
+
+    @Test
+    public void sameNameSharesCounters() throws ChanceException {
+        ChanceMetrics metrics = new ChanceMetrics();
+        metrics.instrument("name", Chance::name).generate(chance);
+        metrics.instrument("name", Chance::name).generate(chance);
+        assertEquals("shared", 2, metrics.get("name").calls());
+    }
+
+    @Test
+    public void latency() throws ChanceException {
+        ChanceMetrics metrics = new ChanceMetrics(true);
+        Generator<String> names = metrics.instrument("name", Chance::name);
+        for (int i = 0; i < 1000; i++) {
+            names.generate(chance);
+        }
+        LatencyHistogram histogram = metrics.get("name").latency();
+        assertEquals("every call recorded", 1000, histogram.count());
+        assertTrue("p99 after p50", histogram.percentile(99) >= histogram.percentile(50));
+        assertTrue("max after p99", histogram.max() >= histogram.percentile(99));
+        assertTrue("exported", metrics.getLatencyP99().containsKey("name"));
+    }
+
+    @Test
+    public void templateFields() throws ChanceException {
+        ChanceMetrics metrics = new ChanceMetrics();
+        RecordTemplate template = RecordTemplate.builder()
+                .metrics(metrics)
+                .cpf("cpf", CpfOptions.masked)
+                .integer("age", 18, 65)
+                .build();
+        for (int i = 0; i < 10; i++) {
+            template.generate(chance);
+        }
+        assertEquals("cpf calls", 10, metrics.get("cpf").calls());
+        assertEquals("cpf characters", 140, metrics.get("cpf").characters());
+        assertEquals("age calls", 10, metrics.get("age").calls());
+    }
+
+    @Test
+    public void jmx() throws ChanceException, JMException {
+        ChanceMetrics metrics = new ChanceMetrics();
+        metrics.instrument("word", c -> c.word(3)).generate(chance);
+        metrics.register("test");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("br.com.fidias.chance4j:type=ChanceMetrics,name=\"test\"");
+        try {
+            TabularData calls = (TabularData) server.getAttribute(name, "Calls");
+            assertEquals("one generator", 1, calls.size());
+            server.invoke(name, "reset", null, null);
+            assertEquals("reset by JMX", 0, metrics.get("word").calls());
+        } finally {
+            metrics.unregister();
+        }
+        assertFalse("unregistered", server.isRegistered(name));
+    }
+
+    @Test
+    public void histogramBuckets() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123456789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.index(value);
+            assertTrue("bucket ends at or after " + value,
+                    LatencyHistogram.highestValue(index) >= value);
+            assertTrue("error below 12.5% for " + value,
+                    LatencyHistogram.highestValue(index) - value <= value / 8);
+            if (index > 0) {
+                assertTrue("previous bucket ends before " + value,
+                        LatencyHistogram.highestValue(index - 1) < value);
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ package br.com.fidias.chance4j.person;
 
 import br.com.fidias.chance4j.AbstractChanceTesting;
 import br.com.fidias.chance4j.ChanceException;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -52,6 +53,20 @@ public class CnpjTest extends AbstractChanceTesting {
         }
     }
     
+    @Test
+    public void fromBaseSameAsDigitArray() throws ChanceException {
+        for (int i = 0; i < 1000; i++) {
+            int base = chance.natural(0, Cnpj.MAX_BASE);
+            int[] digits = new int[8];
+            for (int j = digits.length - 1, rest = base; j >= 0; j--, rest /= 10) {
+                digits[j] = rest % 10;
+            }
+            int d1 = Cnpj.calculateVerifyingDigitOne(digits);
+            int d2 = Cnpj.calculateVerifyingDigitTwo(digits, d1);
+            assertEquals("same verifying digits", d1 * 10 + d2, Cnpj.fromBase(base) % 100);
+        }
+    }
+    
     @Test(expected = ChanceException.class)
     public void wrongNumberOfValuesOnDigitOne() throws ChanceException {
         int[] values = new int[9];
@@ -102,4 +117,20 @@ public class CnpjTest extends AbstractChanceTesting {
     private boolean isMasked(String cnpj) {
         return cnpj.matches("\\d{2}\\.\\d{3}\\.\\d{3}/\\d{4}-\\d{2}");
     }
+
+    @Test
+    public void fromBaseLimits() throws ChanceException {
+        assertEquals("smallest base", 0, Cnpj.fromBase(0) / 1000000);
+        assertEquals("greatest base", Cnpj.MAX_BASE, Cnpj.fromBase(Cnpj.MAX_BASE) / 1000000);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void negativeBase() throws ChanceException {
+        Cnpj.fromBase(-1);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void baseOutOfRange() throws ChanceException {
+        Cnpj.fromBase(Cnpj.MAX_BASE + 1);
+    }
 }
@@ -25,6 +25,7 @@ package br.com.fidias.chance4j.person;
 import br.com.fidias.chance4j.AbstractChanceTesting;
 import br.com.fidias.chance4j.ChanceException;
 import org.junit.Test;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -52,6 +53,20 @@ public class CpfTest extends AbstractChanceTesting {
         }
     }
     
+    @Test
+    public void fromBaseSameAsDigitArray() throws ChanceException {
+        for (int i = 0; i < 1000; i++) {
+            int base = chance.natural(0, Cpf.MAX_BASE);
+            int[] digits = new int[9];
+            for (int j = digits.length - 1, rest = base; j >= 0; j--, rest /= 10) {
+                digits[j] = rest % 10;
+            }
+            int d1 = Cpf.calculateVerifyingDigitOne(digits);
+            int d2 = Cpf.calculateVerifyingDigitTwo(digits, d1);
+            assertEquals("same verifying digits", d1 * 10 + d2, Cpf.fromBase(base) % 100);
+        }
+    }
+    
     @Test(expected = ChanceException.class)
     public void wrongNumberOfValuesOnDigitOne() throws ChanceException {
         int[] values = new int[10];
@@ -98,4 +113,20 @@ public class CpfTest extends AbstractChanceTesting {
     private boolean isMasked(String cpf) {
         return cpf.matches("\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}");
     }
+
+    @Test
+    public void fromBaseLimits() throws ChanceException {
+        assertEquals("smallest base", 0, Cpf.fromBase(0) / 100);
+        assertEquals("greatest base", Cpf.MAX_BASE, Cpf.fromBase(Cpf.MAX_BASE) / 100);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void negativeBase() throws ChanceException {
+        Cpf.fromBase(-1);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void baseOutOfRange() throws ChanceException {
+        Cpf.fromBase(Cpf.MAX_BASE + 1);
+    }
 }
@@ -25,6 +25,7 @@ package br.com.fidias.chance4j.person;
 import br.com.fidias.chance4j.AbstractChanceTesting;
 import br.com.fidias.chance4j.ChanceException;
 import br.com.fidias.chance4j.person.name.Nationality;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -73,4 +74,29 @@ public class FirstNameTest extends AbstractChanceTesting {
                     chance.firstName() instanceof String);
         }
     }
+    
+    @Test
+    public void listForEveryGenderAndNationality() throws InterruptedException {
+        final boolean[] failed = new boolean[1];
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    for (Gender gender : Gender.values()) {
+                        for (Nationality nationality : Nationality.values()) {
+                            String[] names = FirstName.getFirstNameList(gender, nationality);
+                            if (names == null || names.length == 0) {
+                                failed[0] = true;
+                            }
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse("never a missing list", failed[0]);
+    }
 }
@@ -25,6 +25,7 @@ package br.com.fidias.chance4j.person;
 import br.com.fidias.chance4j.AbstractChanceTesting;
 import br.com.fidias.chance4j.ChanceException;
 import br.com.fidias.chance4j.person.name.PrefixSuffixOptions;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -48,4 +49,14 @@ public class NamePrefixTest extends AbstractChanceTesting {
             assertTrue("random name prefix", prefix instanceof String);
         }
     }
+
+    @Test
+    public void listIsACopy() {
+        String[] list = NamePrefix.getNamePrefixList(Gender.Male, PrefixSuffixOptions.full);
+        list[0] = null;
+        assertEquals("shared prefixes untouched", "Doctor",
+                NamePrefix.getNamePrefixList(Gender.Male, PrefixSuffixOptions.full)[0]);
+        assertEquals("shared prefixes untouched", "Doctor",
+                NamePrefix.getNamePrefix(Gender.Male, PrefixSuffixOptions.full, 0));
+    }
 }
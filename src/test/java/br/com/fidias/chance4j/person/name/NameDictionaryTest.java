@@ -0,0 +1,86 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.person.name;
+
+import br.com.fidias.chance4j.person.FirstName;
+import br.com.fidias.chance4j.person.Gender;
+import br.com.fidias.chance4j.person.LastName;
+import br.com.fidias.chance4j.person.name.br.BrazilianLastName;
+import br.com.fidias.chance4j.person.name.it.ItalianLastName;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class NameDictionaryTest {
+
+    @Test
+    public void listsAreLoaded() {
+        assertEquals("italian last names", 999, ItalianLastName.NAMES.size());
+        assertEquals("english female names", 250,
+                FirstName.getFirstNameList(Gender.Female, Nationality.English).length);
+        assertEquals("brazilian male names", 61,
+                FirstName.getFirstNameList(Gender.Male, Nationality.Brazilian).length);
+        assertEquals("english last names", 200,
+                LastName.getLastNameList(Nationality.English).length);
+    }
+
+    @Test
+    public void namesAreTrimmed() {
+        for (Nationality nationality : new Nationality[]{
+            Nationality.Brazilian, Nationality.English, Nationality.Italian}) {
+            for (String name : LastName.getLastNameList(nationality)) {
+                assertFalse("not empty", name.isEmpty());
+                assertEquals("no surrounding spaces", name.trim(), name);
+            }
+        }
+    }
+
+    @Test
+    public void utf8Names() {
+        assertTrue("keeps accents", Arrays.asList(BrazilianLastName.NAMES.toArray()).contains("Aragão"));
+    }
+
+    @Test
+    public void windowsLineEnds() {
+        NameList names = NameDictionary.load(NameDictionaryTest.class, "crlf.txt", "last");
+        assertEquals("blank lines are skipped", 2, names.size());
+        assertEquals("no carriage return", "Alves", names.get(0));
+        assertEquals("decoded as utf-8", "Aragão", names.get(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void missingResource() {
+        NameDictionary.load(NameDictionaryTest.class, "missing.txt", "last");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void missingSection() {
+        NameDictionary.load(ItalianLastName.class, "names.txt", "middle");
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.prefetch;
+
+import br.com.fidias.chance4j.AbstractChanceTesting;
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author atila
+ */
+public class PrefetchingChanceTest extends AbstractChanceTesting {
+
+    private PrefetchingChance prefetching;
+
+    @Before
+    public void setUp() {
+        prefetching = new PrefetchingChance(new Chance(2016));
+    }
+
+    @After
+    public void tearDown() {
+        prefetching.close();
+    }
+
+    private static void awaitFull(PrefetchedGenerator<?> generator) throws InterruptedException {
+        for (int i = 0; i < 5000 && generator.fillLevel() < generator.capacity(); i++) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitHalf(PrefetchedGenerator<?> generator) throws InterruptedException {
+        for (int i = 0; i < 5000 && generator.fillLevel() < generator.capacity() / 2; i++) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void prefetchedValues() throws ChanceException, InterruptedException {
+        PrefetchedGenerator<Integer> dice = prefetching.prefetch(c -> c.natural(1, 6), 100);
+        assertEquals("capacity rounded up", 128, dice.capacity());
+        awaitFull(dice);
+        assertEquals("buffer filled up", 128, dice.fillLevel());
+        for (int i = 0; i < 128; i++) {
+            int value = dice.next();
+            assertTrue("value of the generator", value >= 1 && value <= 6);
+        }
+        assertEquals("no underflow", 0, dice.underflows());
+    }
+
+    @Test
+    public void underflowGeneratesInCaller() throws ChanceException {
+        final CountDownLatch release = new CountDownLatch(1);
+        PrefetchedGenerator<String> names = prefetching.prefetch(c -> {
+            if (Thread.currentThread().getName().equals("chance4j-prefetch")) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return c.name();
+        }, 16);
+        try {
+            assertTrue("generated by the caller", names.next().length() > 0);
+            assertEquals("underflow counted", 1, names.underflows());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void refilledAfterDrain() throws ChanceException, InterruptedException {
+        PrefetchedGenerator<String> names = prefetching.prefetch(Chance::name, 64);
+        for (int i = 0; i < 1000; i++) {
+            names.next();
+        }
+        // refilled up to full when it dropped below half, but the last calls
+        // may have taken some values since
+        awaitHalf(names);
+        assertTrue("buffer filled up again", names.fillLevel() >= 32);
+    }
+
+    @Test
+    public void parkedWhileFull() throws ChanceException, InterruptedException {
+        PrefetchedGenerator<Integer> dice = prefetching.prefetch(c -> c.natural(1, 6), 64);
+        awaitFull(dice);
+        Thread refiller = null;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("chance4j-prefetch")) {
+                refiller = thread;
+            }
+        }
+        for (int i = 0; i < 5000 && refiller.getState() != Thread.State.WAITING; i++) {
+            Thread.sleep(1);
+        }
+        assertEquals("parked without a timeout", Thread.State.WAITING, refiller.getState());
+        for (int i = 0; i < 40; i++) {
+            dice.next();
+        }
+        awaitHalf(dice);
+        assertTrue("woken up below half", dice.fillLevel() >= 32);
+        assertEquals("no underflow", 0, dice.underflows());
+    }
+
+    private static void awaitFailure(PrefetchedGenerator<?> generator) throws InterruptedException {
+        for (int i = 0; i < 5000 && !generator.isFailed(); i++) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void failingGenerator() throws ChanceException {
+        PrefetchedGenerator<Integer> failing = prefetching.prefetch(c -> c.natural(10, 1), 8);
+        failing.next();
+    }
+
+    @Test
+    public void failureIsReported() throws ChanceException, InterruptedException {
+        PrefetchedGenerator<Integer> failing = prefetching.prefetch(c -> c.natural(10, 1), 8);
+        awaitFailure(failing);
+        assertTrue("failed", failing.isFailed());
+        try {
+            failing.next();
+            fail("prefetching stopped");
+        } catch (ChanceException ex) {
+            assertSame("original error", failing.getFailure(), ex.getCause());
+        }
+    }
+
+    @Test
+    public void nullIsAFailure() throws ChanceException, InterruptedException {
+        PrefetchedGenerator<String> nulls = prefetching.prefetch(c -> null, 8);
+        awaitFailure(nulls);
+        assertTrue("failed", nulls.isFailed());
+        assertTrue("null reported", nulls.getFailure() instanceof ChanceException);
+        assertEquals("no values", 0, nulls.fillLevel());
+    }
+
+    @Test(expected = ChanceException.class)
+    public void invalidCapacity() throws ChanceException {
+        prefetching.prefetch(Chance::integer, 0);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void closed() throws ChanceException {
+        prefetching.close();
+        prefetching.prefetch(Chance::integer, 8);
+    }
+}
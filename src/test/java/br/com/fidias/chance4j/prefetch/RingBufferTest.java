@@ -0,0 +1,106 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.prefetch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class RingBufferTest {
+
+    @Test
+    public void capacityIsPowerOfTwo() {
+        assertEquals(2, new RingBuffer<Integer>(1).capacity());
+        assertEquals(8, new RingBuffer<Integer>(8).capacity());
+        assertEquals(16, new RingBuffer<Integer>(9).capacity());
+    }
+
+    @Test
+    public void firstInFirstOut() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        assertNull("empty", buffer.poll());
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue("room left", buffer.offer(i));
+            }
+            assertFalse("full", buffer.offer(4));
+            assertEquals("size", 4, buffer.size());
+            for (int i = 0; i < 4; i++) {
+                assertEquals("in order", Integer.valueOf(i), buffer.poll());
+            }
+            assertNull("empty again", buffer.poll());
+        }
+    }
+
+    @Test
+    public void manyProducersAndConsumers() throws InterruptedException {
+        final RingBuffer<Long> buffer = new RingBuffer<>(64);
+        final int threads = 4;
+        final long perThread = 20000;
+        final AtomicLong sum = new AtomicLong();
+        final AtomicLong taken = new AtomicLong();
+        List<Thread> all = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            all.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (long i = 1; i <= perThread; i++) {
+                        while (!buffer.offer(i)) {
+                            Thread.yield();
+                        }
+                    }
+                }
+            }));
+            all.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    while (taken.get() < threads * perThread) {
+                        Long value = buffer.poll();
+                        if (value == null) {
+                            Thread.yield();
+                        } else {
+                            sum.addAndGet(value);
+                            taken.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread thread : all) {
+            thread.start();
+        }
+        for (Thread thread : all) {
+            thread.join();
+        }
+        assertEquals("every value taken once", threads * perThread * (perThread + 1) / 2, sum.get());
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+import br.com.fidias.chance4j.ChanceException;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author atila
+ */
+public class AliasTableTest {
+
+    private static final int DRAWS = 1000000;
+
+    private static int[] count(AliasTable table) {
+        RandomEngine random = RandomEngineType.splitMix64.create(2016);
+        int[] counts = new int[table.size()];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[table.next(random)]++;
+        }
+        return counts;
+    }
+
+    @Test
+    public void proportionalToWeights() throws ChanceException {
+        double[] weights = {1, 0, 2, 7, 0.5, 9.5};
+        int[] counts = count(AliasTable.of(weights));
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals("frequency of " + i, weights[i] / 20, (double) counts[i] / DRAWS, 0.003);
+        }
+    }
+
+    @Test
+    public void singleWeight() throws ChanceException {
+        assertEquals("always the only index", DRAWS, count(AliasTable.of(new double[]{3}))[0]);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void negativeWeight() throws ChanceException {
+        AliasTable.of(new double[]{1, -1});
+    }
+
+    @Test(expected = ChanceException.class)
+    public void notANumber() throws ChanceException {
+        AliasTable.of(new double[]{1, Double.NaN});
+    }
+
+    @Test(expected = ChanceException.class)
+    public void allZeros() throws ChanceException {
+        AliasTable.of(new double[]{0, 0});
+    }
+
+    @Test(expected = ChanceException.class)
+    public void empty() throws ChanceException {
+        AliasTable.of(new double[0]);
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.random;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+@RunWith(Parameterized.class)
+public class RandomEngineTest {
+
+    private final RandomEngineType type;
+
+    public RandomEngineTest(RandomEngineType type) {
+        this.type = type;
+    }
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        List<Object[]> data = new ArrayList<>();
+        for (RandomEngineType type : RandomEngineType.values()) {
+            data.add(new Object[]{type});
+        }
+        return data;
+    }
+
+    @Test
+    public void sameSeedSameSequence() {
+        RandomEngine first = type.create(42);
+        RandomEngine second = type.create(42);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("same seed, same sequence", first.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test
+    public void intWithinBounds() {
+        RandomEngine engine = type.create();
+        int[][] bounds = {
+            {0, 0}, {0, 9}, {-25, 0}, {-250, -110}, {1000, Integer.MAX_VALUE},
+            {Integer.MIN_VALUE, 0}, {Integer.MIN_VALUE, Integer.MAX_VALUE}
+        };
+        for (int[] bound : bounds) {
+            for (int i = 0; i < 1000; i++) {
+                int value = engine.nextInt(bound[0], bound[1]);
+                assertTrue("int within bounds", value >= bound[0] && value <= bound[1]);
+            }
+        }
+    }
+
+    @Test
+    public void longWithinBounds() {
+        RandomEngine engine = type.create();
+        long[][] bounds = {
+            {0, 0}, {0, 9}, {-25, 0}, {1000, Long.MAX_VALUE}, {-10, Long.MAX_VALUE},
+            {Long.MIN_VALUE, 0}, {Long.MIN_VALUE, Long.MAX_VALUE}
+        };
+        for (long[] bound : bounds) {
+            for (int i = 0; i < 1000; i++) {
+                long value = engine.nextLong(bound[0], bound[1]);
+                assertTrue("long within bounds", value >= bound[0] && value <= bound[1]);
+            }
+        }
+    }
+
+    @Test
+    public void everyValueOfSmallRange() {
+        RandomEngine engine = type.create();
+        boolean[] seen = new boolean[10];
+        for (int i = 0; i < 1000; i++) {
+            seen[engine.nextInt(0, 9)] = true;
+        }
+        for (boolean value : seen) {
+            assertTrue("every value of a small range", value);
+        }
+    }
+
+    @Test
+    public void doubleWithinUnitInterval() {
+        RandomEngine engine = type.create();
+        for (int i = 0; i < 1000; i++) {
+            double value = engine.nextDouble();
+            assertTrue("double within [0, 1)", value >= 0 && value < 1);
+        }
+    }
+
+    @Test
+    public void chanceWithEngine() throws ChanceException {
+        Chance chance = new Chance(type.create());
+        for (int i = 0; i < 1000; i++) {
+            int value = chance.integer(-10, 10);
+            assertTrue("chance with engine", value >= -10 && value <= 10);
+        }
+    }
+
+    @Test
+    public void splitMix64MatchesSplittableRandom() {
+        SplitMix64Engine engine = new SplitMix64Engine(2016);
+        SplittableRandom random = new SplittableRandom(2016);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("same algorithm as SplittableRandom", random.nextLong(), engine.nextLong());
+        }
+    }
+}
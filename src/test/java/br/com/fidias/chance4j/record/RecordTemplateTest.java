@@ -0,0 +1,174 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.record;
+
+import br.com.fidias.chance4j.AbstractChanceTesting;
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.person.AgeOptions;
+import br.com.fidias.chance4j.person.CpfOptions;
+import br.com.fidias.chance4j.person.SsnOptions;
+import br.com.fidias.chance4j.person.name.NameOptions;
+import br.com.fidias.chance4j.random.RandomEngineType;
+import br.com.fidias.chance4j.text.TextOptions;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class RecordTemplateTest extends AbstractChanceTesting {
+
+    private RecordTemplate template;
+
+    @Before
+    public void setUp() throws ChanceException {
+        TextOptions textOptions = new TextOptions();
+        textOptions.setPoolType(TextOptions.PoolType.numeric);
+        template = RecordTemplate.builder()
+                .integer("id", 1, 1000)
+                .name("name", new NameOptions())
+                .cpf("cpf", CpfOptions.masked)
+                .ssn("ssn", new SsnOptions())
+                .birthday("birthday", AgeOptions.adult)
+                .string("code", textOptions, 6)
+                .field("word", Chance::word)
+                .build();
+    }
+
+    @Test
+    public void arrayRow() throws ChanceException {
+        Object[] row = template.generate(chance);
+        assertEquals("one value per field", 7, row.length);
+        assertTrue("id", (Integer) row[0] >= 1 && (Integer) row[0] <= 1000);
+        assertTrue("name", row[1] instanceof String);
+        assertTrue("cpf", ((String) row[2]).matches("\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}"));
+        assertTrue("ssn", ((String) row[3]).matches("\\d{3}-\\d{2}-\\d{4}"));
+        assertTrue("birthday", row[4] instanceof Date);
+        assertTrue("code", ((String) row[5]).matches("\\d{6}"));
+    }
+
+    @Test
+    public void mapRow() throws ChanceException {
+        Map<String, Object> row = template.generateMap(chance);
+        assertEquals("names in order", template.getNames(), Arrays.asList(row.keySet().toArray()));
+    }
+
+    @Test
+    public void sameValuesAsArray() throws ChanceException {
+        Object[] expected = template.generate(new Chance(RandomEngineType.splitMix64, 2016));
+        final Object[] actual = new Object[template.size()];
+        template.generate(new Chance(RandomEngineType.splitMix64, 2016), 1, new RowSink() {
+            @Override
+            public void field(int index, Object value) {
+                actual[index] = value;
+            }
+
+            @Override
+            public void endRow() {
+            }
+        });
+        assertArrayEquals("sink gets the same values", expected, actual);
+    }
+
+    @Test
+    public void optionsReadOnBuild() throws ChanceException {
+        TextOptions textOptions = new TextOptions();
+        textOptions.setPoolType(TextOptions.PoolType.numeric);
+        RecordTemplate.Builder builder = RecordTemplate.builder().string("code", textOptions, 8);
+        RecordTemplate compiled = builder.build();
+        textOptions.setPoolType(TextOptions.PoolType.alpha);
+        for (int i = 0; i < 100; i++) {
+            assertTrue("compiled options", ((String) compiled.generate(chance)[0]).matches("\\d{8}"));
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void repeatedName() throws ChanceException {
+        RecordTemplate.builder().integer("id", 0, 1).integer("id", 0, 1).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void invalidOptions() throws ChanceException {
+        RecordTemplate.builder().integer("id", 10, 1).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void emptyString() throws ChanceException {
+        RecordTemplate.builder().string("code", new TextOptions(), 0).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void cpfWithoutOptions() throws ChanceException {
+        RecordTemplate.builder().cpf("cpf", null).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void cnpjWithoutOptions() throws ChanceException {
+        RecordTemplate.builder().cnpj("cnpj", null).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void nameWithoutOptions() throws ChanceException {
+        RecordTemplate.builder().name("name", null).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void ssnWithoutOptions() throws ChanceException {
+        RecordTemplate.builder().ssn("ssn", null).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void ssnWithoutLength() throws ChanceException {
+        SsnOptions options = new SsnOptions();
+        options.setLength(null);
+        RecordTemplate.builder().ssn("ssn", options).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void floatingMinGreaterThanMax() throws ChanceException {
+        RecordTemplate.builder().floating("price", 10, 1, 2).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void floatingOutOfRangeWithFixed() throws ChanceException {
+        RecordTemplate.builder().floating("price", null, Integer.MAX_VALUE, 4).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void floatingNegativeFixed() throws ChanceException {
+        RecordTemplate.builder().floating("price", 1, 10, -3).build();
+    }
+
+    @Test(expected = ChanceException.class)
+    public void rowTooShort() throws ChanceException {
+        template.generate(chance, new Object[2]);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.text;
+
+import br.com.fidias.chance4j.AbstractChanceTesting;
+import br.com.fidias.chance4j.ChanceException;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class CharPoolTest extends AbstractChanceTesting {
+    
+    private TextOptions options;
+    
+    @Before
+    public void setUp() {
+        options = new TextOptions();
+    }
+    
+    @Test
+    public void builtInPoolIsShared() throws ChanceException {
+        options.setPoolType(TextOptions.PoolType.alpha);
+        options.setCasing(TextOptions.Casing.upper);
+        CharPool pool = options.compile();
+        TextOptions other = new TextOptions();
+        other.setPoolType(TextOptions.PoolType.alpha);
+        other.setCasing(TextOptions.Casing.upper);
+        assertSame("built-in pool is compiled once", pool, other.compile());
+        assertEquals("upper case letters", Text.CHARS_UPPER, pool.getTextPool());
+    }
+    
+    @Test
+    public void compileDoesNotChangeOptions() throws ChanceException {
+        options.setPoolType(TextOptions.PoolType.any);
+        options.compile();
+        assertNull("options are not modified", options.getPool());
+    }
+    
+    @Test
+    public void customPoolIsCached() throws ChanceException {
+        options.setPoolType(TextOptions.PoolType.custom);
+        options.setPool(Text.VOWELS);
+        assertSame("custom pool is cached by identity", options.compile(), options.compile());
+    }
+    
+    @Test
+    public void compiledPoolIsImmutable() throws ChanceException {
+        options.setPoolType(TextOptions.PoolType.custom);
+        options.setPool("ab");
+        CharPool pool = options.compile();
+        options.setPool("xy");
+        for (int i = 0; i < 1000; i++) {
+            assertTrue("choose only from the compiled pool",
+                    String.valueOf(chance.character(pool)).matches("[ab]"));
+        }
+    }
+    
+    @Test
+    public void stringFromCompiledPool() throws ChanceException {
+        options.setPoolType(TextOptions.PoolType.numeric);
+        CharPool pool = options.compile();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue("choose only from numbers", chance.string(pool, 12).matches("[0-9]{12}"));
+        }
+    }
+    
+    @Test(expected = ChanceException.class)
+    public void customPoolNotDefined() throws ChanceException {
+        options.setPoolType(TextOptions.PoolType.custom);
+        options.compile();
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.time;
+
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.person.AgeOptions;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.TimeZone;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class ClockTest {
+
+    private static final Clock NEW_YEAR_EVE = Clock.fixed(
+            Instant.parse("1999-12-31T23:59:59.999Z"), ZoneOffset.UTC);
+
+    @Test
+    public void yearFromClock() throws ChanceException {
+        Chance chance = new Chance(2016).withClock(NEW_YEAR_EVE);
+        for (int i = 0; i < 1000; i++) {
+            int year = chance.year();
+            assertTrue("year relative to the clock", year >= 1999 && year <= 2099);
+            assertTrue("date relative to the clock",
+                    chance.localDate().getYear() >= 1999);
+        }
+    }
+
+    @Test
+    public void yearInZoneOfClock() throws ChanceException {
+        Chance chance = new Chance(2016).withClock(NEW_YEAR_EVE.withZone(ZoneId.of("Asia/Tokyo")));
+        for (int i = 0; i < 1000; i++) {
+            assertTrue("already 2000 in Tokyo", chance.year() >= 2000);
+        }
+    }
+
+    @Test
+    public void datesInZoneOfClock() throws ChanceException {
+        TimeZone auckland = TimeZone.getTimeZone("Pacific/Auckland");
+        Chance chance = new Chance(2016).withClock(NEW_YEAR_EVE.withZone(auckland.toZoneId()));
+        Calendar calendar = Calendar.getInstance(auckland);
+        for (int i = 0; i < 2000; i++) {
+            calendar.setTime(chance.timestamp(1994));
+            assertEquals("1994 in the zone of the clock", 1994, calendar.get(Calendar.YEAR));
+        }
+    }
+
+    @Test
+    public void textInZoneOfClock() throws ChanceException {
+        // a zone other than the default, so the text cannot come from it
+        String id = "Pacific/Auckland".equals(TimeZone.getDefault().getID())
+                ? "America/Sao_Paulo" : "Pacific/Auckland";
+        Chance chance = new Chance(2016).withClock(NEW_YEAR_EVE.withZone(ZoneId.of(id)));
+        DateFormatSpec format = DateFormatSpec.of("yyyy HH:mm");
+        for (int i = 0; i < 2000; i++) {
+            assertEquals("local midnight of 1994", "1994 00:00", chance.dateAsText(1994, format));
+            assertEquals("timestamp of 1994", "1994", chance.timestampAsText(1994, "yyyy"));
+        }
+    }
+
+    @Test
+    public void birthdayFromClock() throws ChanceException {
+        Chance chance = new Chance(2016).withClock(NEW_YEAR_EVE);
+        Calendar calendar = Calendar.getInstance();
+        for (int i = 0; i < 1000; i++) {
+            calendar.setTime(chance.birthday(AgeOptions.child));
+            int age = 1999 - calendar.get(Calendar.YEAR);
+            assertTrue("child at the end of 1999", age >= 0 && age <= 12);
+        }
+    }
+
+    @Test
+    public void reproducibleWithFixedClock() throws ChanceException {
+        Chance first = new Chance(2016).withClock(NEW_YEAR_EVE);
+        Chance second = new Chance(2016).withClock(NEW_YEAR_EVE);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("same birthdays", first.birthday(), second.birthday());
+            assertEquals("same dates", first.epochMillis(), second.epochMillis());
+        }
+    }
+
+    @Test
+    public void forkKeepsClock() throws ChanceException {
+        Chance chance = new Chance(2016).withClock(NEW_YEAR_EVE);
+        assertSame("fork keeps the clock", NEW_YEAR_EVE, chance.fork(3).getClock());
+        assertSame("split keeps the clock", NEW_YEAR_EVE, chance.split().getClock());
+        assertEquals("fork depends only on the seed",
+                new Chance(2016).fork(3).integer(), chance.fork(3).integer());
+    }
+
+    @Test
+    public void fixedClockIsStopped() throws ChanceException {
+        Chance chance = new Chance(2016).withFixedClock();
+        Instant instant = chance.getClock().instant();
+        assertEquals("clock is stopped", instant, chance.getClock().instant());
+        assertEquals("still forks", new Chance(2016).fork(1).integer(), chance.fork(1).integer());
+    }
+
+    @Test(expected = ChanceException.class)
+    public void nullClock() throws ChanceException {
+        new Chance().withClock(null);
+    }
+}
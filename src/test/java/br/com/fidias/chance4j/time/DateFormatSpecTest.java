@@ -0,0 +1,110 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.time;
+
+import br.com.fidias.chance4j.AbstractChanceTesting;
+import br.com.fidias.chance4j.ChanceException;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+import org.joda.time.DateTime;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class DateFormatSpecTest extends AbstractChanceTesting {
+
+    private static final Locale PT_BR = new Locale("pt", "BR");
+
+    @Test
+    public void specIsCached() throws ChanceException {
+        DateFormatSpec format = DateFormatSpec.of("dd/MM/yyyy", PT_BR);
+        assertSame("compiled once", format, DateFormatSpec.of("dd/MM/yyyy", PT_BR));
+        assertNotSame("locale is part of the key", format, DateFormatSpec.of("dd/MM/yyyy", Locale.US));
+        assertSame("null locale is the default", DateFormatSpec.of("dd/MM/yyyy"),
+                DateFormatSpec.of("dd/MM/yyyy", null));
+    }
+
+    @Test
+    public void sameAsJoda() throws ChanceException {
+        DateFormatSpec format = DateFormatSpec.of("EEEE, dd 'de' MMMM 'de' yyyy HH:mm:ss", PT_BR);
+        for (int i = 0; i < 1000; i++) {
+            long millis = chance.epochMillis();
+            assertEquals("same text as joda",
+                    new DateTime(millis).toString(format.getPattern(), PT_BR),
+                    format.format(millis));
+        }
+    }
+
+    @Test
+    public void formatToBuilder() throws ChanceException {
+        DateFormatSpec format = DateFormatSpec.of("yyyy-MM-dd");
+        StringBuilder builder = new StringBuilder("date=");
+        long millis = chance.epochMillis();
+        format.formatTo(builder, millis);
+        assertEquals("appended to the builder", "date=" + format.format(millis), builder.toString());
+    }
+
+    @Test
+    public void formatToAppendable() throws ChanceException, IOException {
+        DateFormatSpec format = DateFormatSpec.of("HH:mm");
+        StringWriter writer = new StringWriter();
+        long millis = chance.epochMillis();
+        format.formatTo(writer, millis);
+        assertEquals("appended to the writer", format.format(millis), writer.toString());
+    }
+
+    @Test
+    public void textMethodsUseSpec() throws ChanceException {
+        DateFormatSpec format = DateFormatSpec.of("dd/MM/yyyy HH:mm:ss", PT_BR);
+        for (int i = 0; i < 100; i++) {
+            assertEquals("timestamp text", 19, chance.timestampAsText(1994, format).length());
+            assertEquals("date text", "1994",
+                    chance.dateAsText(1994, format).substring(6, 10));
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void invalidPattern() throws ChanceException {
+        DateFormatSpec.of("yyyy-MM-dd bb");
+    }
+
+    @Test
+    public void nullPatternIsIso() throws ChanceException {
+        DateFormatSpec format = DateFormatSpec.of(null, PT_BR);
+        assertSame("compiled once", format, DateFormatSpec.of(null, PT_BR));
+        for (int i = 0; i < 100; i++) {
+            long millis = chance.epochMillis();
+            assertEquals("same text as joda", new DateTime(millis).toString(null, PT_BR),
+                    format.format(millis));
+        }
+        String text = chance.dateAsText(1994, (String) null);
+        assertTrue("iso date text", text.startsWith("1994-") && text.charAt(10) == 'T');
+    }
+}
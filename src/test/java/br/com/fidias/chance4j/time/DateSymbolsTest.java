@@ -0,0 +1,89 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.time;
+
+import java.util.Locale;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ *
+ * @author atila
+ */
+public class DateSymbolsTest {
+
+    private static final Locale[] LOCALES = {
+        new Locale("pt", "BR"), Locale.US, Locale.FRANCE, Locale.JAPAN, new Locale("ru")
+    };
+
+    @Test
+    public void symbolsAreCached() {
+        Locale locale = new Locale("pt", "BR");
+        assertSame("formatted once", DateSymbols.of(locale), DateSymbols.of(new Locale("pt", "BR")));
+        assertSame("null locale is the default", DateSymbols.of(Locale.getDefault()), DateSymbols.of(null));
+    }
+
+    @Test
+    public void monthNamesSameAsJoda() {
+        for (Locale locale : LOCALES) {
+            DateSymbols symbols = DateSymbols.of(locale);
+            for (int month = Month.MIN; month <= Month.MAX; month++) {
+                LocalDate date = new LocalDate(2016, month, 15);
+                for (Month.MonthOptions options : Month.MonthOptions.values()) {
+                    assertEquals("month name", date.toString(options.getFormat(), locale),
+                            symbols.monthName(month, options));
+                }
+                assertEquals("full name by default", date.toString("MMMM", locale),
+                        symbols.monthName(month, null));
+            }
+        }
+    }
+
+    @Test
+    public void weekdayNamesSameAsJoda() {
+        for (Locale locale : LOCALES) {
+            DateSymbols symbols = DateSymbols.of(locale);
+            LocalDate date = new LocalDate(2016, 10, 1);
+            for (int i = 0; i < 7; i++, date = date.plusDays(1)) {
+                assertEquals("weekday name", date.toString("EEEE", locale),
+                        symbols.weekdayName(date.getDayOfWeek()));
+                assertEquals("short weekday name", date.toString("EEE", locale),
+                        symbols.shortWeekdayName(date.getDayOfWeek()));
+            }
+        }
+    }
+
+    @Test
+    public void amPmSameAsJoda() {
+        for (Locale locale : LOCALES) {
+            DateSymbols symbols = DateSymbols.of(locale);
+            for (int hour = 0; hour < 24; hour++) {
+                assertEquals("am/pm marker", new LocalTime(hour, 30).toString("a", locale),
+                        symbols.amPm(hour));
+            }
+        }
+    }
+}
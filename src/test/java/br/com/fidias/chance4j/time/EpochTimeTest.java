@@ -0,0 +1,131 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.time;
+
+import br.com.fidias.chance4j.AbstractChanceTesting;
+import br.com.fidias.chance4j.ChanceException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class EpochTimeTest extends AbstractChanceTesting {
+
+    private static final String[] ZONES = {
+        "UTC", "America/Sao_Paulo", "America/New_York", "Europe/Berlin",
+        "Australia/Lord_Howe", "Asia/Kolkata", "Pacific/Apia"
+    };
+
+    @Test
+    public void sameAsLocalDate() {
+        for (long day = -800000; day <= 3000000; day += 97) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            assertEquals("epoch day of " + date, day, EpochTime.epochDay(
+                    date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+            assertEquals("year of " + date, date.getYear(), EpochTime.yearOf(day));
+            assertEquals("length of month of " + date, date.lengthOfMonth(),
+                    EpochTime.lengthOfMonth(date.getYear(), date.getMonthValue()));
+        }
+    }
+
+    @Test
+    public void sameAsZonedDateTime() {
+        for (String id : ZONES) {
+            TimeZone zone = TimeZone.getTimeZone(id);
+            ZoneId zoneId = ZoneId.of(id);
+            Instant instant = Instant.parse("1960-01-01T00:00:00Z");
+            Instant end = Instant.parse("2040-01-01T00:00:00Z");
+            ZoneOffsetTransition transition;
+            while ((transition = zoneId.getRules().nextTransition(instant)) != null
+                    && transition.getInstant().isBefore(end)) {
+                instant = transition.getInstant();
+                // every 15 minutes around the gap or the overlap
+                LocalDateTime from = transition.getDateTimeBefore().minusHours(2);
+                for (int i = 0; i < 20; i++) {
+                    LocalDateTime dateTime = from.plusMinutes(15 * i);
+                    long local = dateTime.toEpochSecond(ZoneOffset.UTC) * 1000;
+                    long expected = ZonedDateTime.ofLocal(dateTime, zoneId, null)
+                            .toInstant().toEpochMilli();
+                    assertEquals(dateTime + " in " + id, expected,
+                            EpochTime.toEpochMillis(local, zone));
+                    assertEquals("local date of " + dateTime + " in " + id,
+                            Instant.ofEpochMilli(expected).atZone(zoneId).toLocalDate().toEpochDay(),
+                            EpochTime.epochDay(expected, zone));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void randomEpochValues() throws ChanceException {
+        for (int i = 0; i < 1000; i++) {
+            int year = chance.year(1, 9999);
+            assertEquals("local date in year", year, chance.localDate(year).getYear());
+            assertEquals("instant in year", year,
+                    chance.instant(year).atOffset(ZoneOffset.UTC).getYear());
+            OffsetDateTime dateTime = chance.offsetDateTime(year, ZoneOffset.ofHours(-3));
+            assertEquals("offset date time in year", year, dateTime.getYear());
+            assertEquals("offset", ZoneOffset.ofHours(-3), dateTime.getOffset());
+            long millis = chance.epochMillis(1000, 2000);
+            assertTrue("epoch millis in range", millis >= 1000 && millis <= 2000);
+            assertTrue("positive epoch millis", chance.epochMillis() > 0);
+        }
+    }
+
+    @Test
+    public void leapDays() {
+        boolean leapDay = false;
+        for (int i = 0; i < 10000 && !leapDay; i++) {
+            LocalDate date = chance.localDate(2016);
+            leapDay = date.getMonthValue() == 2 && date.getDayOfMonth() == 29;
+        }
+        assertTrue("February 29 on a leap year", leapDay);
+    }
+
+    @Test
+    public void localDateBetween() throws ChanceException {
+        LocalDate min = LocalDate.of(1999, 2, 28);
+        LocalDate max = LocalDate.of(1999, 3, 1);
+        for (int i = 0; i < 100; i++) {
+            LocalDate date = chance.localDate(min, max);
+            assertTrue("in range", !date.isBefore(min) && !date.isAfter(max));
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void localDateMinAfterMax() throws ChanceException {
+        chance.localDate(LocalDate.of(2000, 1, 1), LocalDate.of(1999, 1, 1));
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.time;
+
+import br.com.fidias.chance4j.AbstractChanceTesting;
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import java.util.Spliterator;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class TimeSeriesTest extends AbstractChanceTesting {
+
+    private static final long START = 1468713600000L;
+    private static final int SIZE = 200000;
+
+    @Test
+    public void strictlyIncreasing() throws ChanceException {
+        for (Arrival arrival : Arrival.values()) {
+            long[] values = chance.timestamps(new long[SIZE], START, 1000, arrival);
+            long last = START;
+            for (long value : values) {
+                assertTrue(arrival + " strictly increasing", value > last);
+                last = value;
+            }
+        }
+    }
+
+    @Test
+    public void meanRate() throws ChanceException {
+        for (Arrival arrival : Arrival.values()) {
+            long[] values = chance.timestamps(new long[SIZE], START, 20, arrival);
+            double rate = SIZE * 1000.0 / (values[SIZE - 1] - START);
+            assertEquals(arrival + " events per second", 20, rate, 20 * 0.03);
+        }
+    }
+
+    @Test
+    public void burstsVaryMoreThanPoisson() throws ChanceException {
+        double uniform = variation(Arrival.uniform);
+        double poisson = variation(Arrival.poisson);
+        double bursty = variation(Arrival.bursty);
+        assertEquals("uniform gaps", 1 / Math.sqrt(3), uniform, 0.05);
+        assertEquals("exponential gaps", 1, poisson, 0.05);
+        assertTrue("bursty gaps", bursty > 2);
+    }
+
+    /**
+     * @return Coefficient of variation of the gaps
+     */
+    private double variation(Arrival arrival) throws ChanceException {
+        long[] values = chance.timestamps(new long[SIZE], START, 1, arrival);
+        double sum = 0, squares = 0;
+        long last = START;
+        for (long value : values) {
+            double gap = value - last;
+            sum += gap;
+            squares += gap * gap;
+            last = value;
+        }
+        double mean = sum / SIZE;
+        return Math.sqrt(squares / SIZE - mean * mean) / mean;
+    }
+
+    @Test
+    public void reproducible() throws ChanceException {
+        long[] first = new Chance(2016).timestamps(new long[1000], START, 50, Arrival.bursty);
+        long[] second = new Chance(2016).timestamps(new long[1000], START, 50, Arrival.bursty);
+        assertArrayEquals("same seed, same series", first, second);
+    }
+
+    @Test
+    public void stream() throws ChanceException {
+        long[] values = chance.timestamps(1000, START, 100, Arrival.poisson).toArray();
+        assertEquals("stream size", 1000, values.length);
+        assertTrue("after start", values[0] > START);
+        for (int i = 1; i < values.length; i++) {
+            assertTrue("strictly increasing", values[i] > values[i - 1]);
+        }
+        Spliterator.OfLong spliterator = chance.timestamps(START, 100, Arrival.poisson)
+                .spliterator();
+        assertTrue("sorted", spliterator.hasCharacteristics(Spliterator.SORTED));
+        assertTrue("distinct", spliterator.hasCharacteristics(Spliterator.DISTINCT));
+        assertEquals("unlimited", 10, chance.timestamps(START, 100, Arrival.uniform)
+                .limit(10).count());
+    }
+
+    @Test(expected = ChanceException.class)
+    public void rateTooHigh() throws ChanceException {
+        chance.timestamps(new long[10], START, 1001, Arrival.poisson);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void rateNotPositive() throws ChanceException {
+        chance.timestamps(10, START, 0, Arrival.poisson);
+    }
+
+    @Test(expected = ChanceException.class)
+    public void arrivalNotDefined() throws ChanceException {
+        chance.timestamps(10, START, 10, null);
+    }
+}
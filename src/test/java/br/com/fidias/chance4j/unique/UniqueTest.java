@@ -0,0 +1,144 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.unique;
+
+import br.com.fidias.chance4j.AbstractChanceTesting;
+import br.com.fidias.chance4j.Chance;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.person.Cpf;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author atila
+ */
+public class UniqueTest extends AbstractChanceTesting {
+
+    @Test
+    public void uniqueStrings() throws ChanceException {
+        UniqueGenerator<String> ssns = chance.unique(Chance::ssn);
+        Set<String> values = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            assertTrue("never repeats", values.add(ssns.next()));
+        }
+        assertEquals("counts every value", 10000, ssns.count());
+    }
+
+    @Test(expected = ChanceException.class)
+    public void generatorExhausted() throws ChanceException {
+        UniqueGenerator<Integer> digits = chance.unique(c -> c.natural(0, 9));
+        for (int i = 0; i < 11; i++) {
+            digits.next();
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void maxAttemptsLessThanOne() throws ChanceException {
+        chance.unique(Chance::cpf, Long::longValue, 0);
+    }
+
+    @Test
+    public void wholeRange() throws ChanceException {
+        UniqueLongGenerator ids = chance.unique(-50, 1000);
+        Set<Long> values = new HashSet<>();
+        for (int i = 0; i < 1051; i++) {
+            long value = ids.next();
+            assertTrue("within range", value >= -50 && value <= 1000);
+            assertTrue("never repeats", values.add(value));
+        }
+        assertEquals("nothing left", 0, ids.remaining());
+    }
+
+    @Test(expected = ChanceException.class)
+    public void rangeExhausted() throws ChanceException {
+        UniqueLongGenerator ids = chance.unique(1, 10);
+        for (int i = 0; i < 11; i++) {
+            ids.next();
+        }
+    }
+
+    @Test(expected = ChanceException.class)
+    public void rangeTooWide() throws ChanceException {
+        chance.unique(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void uniqueCpf() throws ChanceException {
+        UniqueLongGenerator cpfs = chance.uniqueCpf();
+        Set<Long> values = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            long cpf = cpfs.next();
+            assertEquals("valid cpf", Cpf.fromBase((int) (cpf / 100)), cpf);
+            assertTrue("never repeats", values.add(cpf));
+        }
+    }
+
+    @Test
+    public void longHashSet() throws ChanceException {
+        LongHashSet set = new LongHashSet(4);
+        for (long i = -5000; i < 5000; i++) {
+            assertTrue("new value", set.add(i * 31));
+        }
+        for (long i = -5000; i < 5000; i++) {
+            assertFalse("repeated value", set.add(i * 31));
+            assertTrue("contains value", set.contains(i * 31));
+        }
+        assertFalse("missing value", set.contains(7));
+        assertEquals("size", 10000, set.size());
+    }
+
+    @Test
+    public void longHashSetFull() throws ChanceException {
+        LongHashSet set = new LongHashSet(16, 64);
+        long value = 1;
+        try {
+            for (; value < 100; value++) {
+                set.add(value);
+            }
+            fail("set cannot grow past its capacity");
+        } catch (ChanceException e) {
+            assertFalse("value is not added", set.contains(value));
+            assertEquals("size", value - 1, set.size());
+        }
+    }
+
+    @Test
+    public void pagedBitSet() {
+        PagedBitSet bits = new PagedBitSet(200000);
+        assertTrue("clear bit", bits.set(199999));
+        assertFalse("bit already set", bits.set(199999));
+        assertEquals("wraps around", 0, bits.nextClearBit(199999));
+        for (long i = 0; i < 70000; i++) {
+            bits.set(i);
+        }
+        assertEquals("next clear bit", 70000, bits.nextClearBit(5));
+        assertTrue("set bit", bits.get(65536));
+        assertFalse("clear bit", bits.get(70000));
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Chance4j is a minimalist generator of random strings, numbers, etc. to
+ * help reduce some monotony particularly while writing automated tests or
+ * anywhere else you need anything random.
+ * Based on the <http://chancejs.com> by Victor Quinn and contributors
+ *
+ * Copyright (C) 2016 Átila Camurça <camurca.home@gmail.com>
+ * Fidias Free and Open Source Team <fidiascom@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package br.com.fidias.chance4j.jfr;
+
+import br.com.fidias.chance4j.AbstractChanceTesting;
+import br.com.fidias.chance4j.ChanceException;
+import br.com.fidias.chance4j.person.name.NameDictionary;
+import br.com.fidias.chance4j.record.RecordTemplate;
+import br.com.fidias.chance4j.record.RowSink;
+import br.com.fidias.chance4j.unique.LongHashSet;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author atila
+ */
+public class ChanceEventsTest extends AbstractChanceTesting {
+
+    @Before
+    public void setUp() {
+        Assume.assumeTrue("Flight Recorder available", ChanceEvents.isAvailable());
+    }
+
+    private interface Work {
+
+        void run() throws ChanceException;
+    }
+
+    private static Map<String, RecordedEvent> record(Work work)
+            throws IOException, ChanceException {
+        Path file = Files.createTempFile("chance4j", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("chance4j.Batch");
+            recording.enable("chance4j.DictionaryLoad");
+            recording.enable("chance4j.UniqueSetGrowth");
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Map<String, RecordedEvent> last = new HashMap<>();
+            for (RecordedEvent event : events) {
+                last.put(event.getEventType().getName(), event);
+            }
+            return last;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void batch() throws IOException, ChanceException {
+        Map<String, RecordedEvent> events = record(() -> {
+            RecordTemplate template = RecordTemplate.builder()
+                    .integer("id", 1, 100)
+                    .bool("active", 50)
+                    .build();
+            template.generate(chance, 1234, new RowSink() {
+                @Override
+                public void field(int index, Object value) {
+                }
+
+                @Override
+                public void endRow() {
+                }
+            });
+        });
+        RecordedEvent batch = events.get("chance4j.Batch");
+        assertEquals("fields", 2, batch.getInt("fields"));
+        assertEquals("rows", 1234, batch.getLong("rows"));
+    }
+
+    @Test
+    public void uniqueSetGrowth() throws IOException, ChanceException {
+        Map<String, RecordedEvent> events = record(() -> {
+            LongHashSet set = new LongHashSet(16);
+            for (long i = 1; i <= 100; i++) {
+                set.add(i);
+            }
+        });
+        RecordedEvent growth = events.get("chance4j.UniqueSetGrowth");
+        assertEquals("doubled", growth.getInt("oldCapacity") * 2, growth.getInt("newCapacity"));
+        assertTrue("size", growth.getInt("size") <= 100);
+    }
+
+    @Test
+    public void dictionaryLoad() throws IOException, ChanceException {
+        Map<String, RecordedEvent> events = record(() -> {
+            NameDictionary.load(ChanceEventsTest.class, "names.txt", "first");
+        });
+        RecordedEvent load = events.get("chance4j.DictionaryLoad");
+        assertEquals("resource", "br/com/fidias/chance4j/jfr/names.txt", load.getString("resource"));
+        assertEquals("size in bytes", 31, load.getLong("bytes"));
+        assertEquals("names of every section", 3, load.getInt("names"));
+    }
+}